@@ -0,0 +1,66 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** Annotation for marking an event type for which only the most recent occurrence matters.
+ *
+ * <p>When an occurrence of a conflatable event is received by an agent while another occurrence with the same key
+ * is still waiting for being delivered to this agent, the run-time environment replaces the pending occurrence
+ * by the received one, instead of queuing both of them.
+ *
+ * <p>The key is composed by the type of the event and the values of the fields that are named in {@link #key()}.
+ * The names must be fields of the event type or of its super types; the field {@code source} of {@code Event}
+ * may be used for distinguishing the senders. If no field is named, all the occurrences of the event type
+ * share the same key.
+ *
+ * <pre><code>
+ * &#64;Conflatable(key = #["source"])
+ * event PositionUpdate {
+ *     val x : double
+ *     val y : double
+ * }
+ * </code></pre>
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Conflatable {
+
+	/** Replies the names of the fields that are composing the conflation key with the event type.
+	 *
+	 * @return the field names.
+	 */
+	String[] key() default {};
+
+}
@@ -0,0 +1,61 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation that is generated by the SARL compiler on an agent, a behavior or a skill for listing
+ * the event handlers that are declared into this type.
+ *
+ * <p>The {@code i}-th element of {@link #guards()} is the name of the function, marked with
+ * {@link PerceptGuardEvaluator}, that evaluates the guards for the {@code i}-th event type
+ * in {@link #events()}. The run-time environment uses this index for avoiding the exploration of all the
+ * declared functions of the type by reflection. The handlers that are declared into the super types
+ * are not listed.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@Retention(value = RetentionPolicy.RUNTIME)
+@Target(value = ElementType.TYPE)
+public @interface PerceptGuardEvaluatorIndex {
+
+	/** Replies the types of the events that are handled by the annotated type.
+	 *
+	 * @return the event types.
+	 */
+	Class<?>[] events() default {};
+
+	/** Replies the names of the guard evaluation functions for the event types in {@link #events()}.
+	 *
+	 * @return the function names.
+	 */
+	String[] guards() default {};
+
+}
@@ -0,0 +1,63 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.sarl.lang.core.EventPriority;
+
+/** Annotation for specifying the delivery priority of the occurrences of an event type.
+ *
+ * <p>The run-time environment delivers the events with a higher priority before the waiting events
+ * with a lower priority. The priority given by this annotation may be overridden for a specific
+ * occurrence with {@link io.sarl.lang.core.Event#setPriority(EventPriority)} before the event is emitted.
+ * The events that are not annotated have the {@link EventPriority#NORMAL} priority.
+ *
+ * <pre><code>
+ * &#64;Prioritized(EventPriority::HIGH)
+ * event Alarm
+ * </code></pre>
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@Documented
+@Inherited
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Prioritized {
+
+	/** Replies the priority of the event type.
+	 *
+	 * @return the priority.
+	 */
+	EventPriority value();
+
+}
@@ -210,15 +210,20 @@ public abstract class AbstractSkillContainer extends AgentProtectedAPIObject imp
 		if (existingSkill != null) {
 			final Skill s = existingSkill.get();
 			if (s != null) {
+				existingSkill.markUsed();
 				return existingSkill;
 			}
 		}
 
-		// Try to load dynamically the skill
+		// Try to load dynamically the skill.
+		// The skills are created and installed on their first use; an agent that never
+		// uses a capacity does not pay for the creation and the memory of the skill.
 		final Skill skill = this.skillProvider.createSkill(capacity);
 		if (skill != null) {
 			$attachOwner(skill);
-			return new AtomicSkillReference(skill);
+			final AtomicSkillReference reference = new AtomicSkillReference(skill);
+			reference.markUsed();
+			return reference;
 		}
 
 		// Use the default skill declaration if present.
@@ -229,8 +234,10 @@ public abstract class AbstractSkillContainer extends AgentProtectedAPIObject imp
 				final Constructor<? extends Skill> cons = type.getConstructor();
 				cons.setAccessible(true);
 				final Skill skillInstance = cons.newInstance();
-				$attachOwner(skill);
-				return new AtomicSkillReference(skillInstance);
+				$attachOwner(skillInstance);
+				final AtomicSkillReference reference = new AtomicSkillReference(skillInstance);
+				reference.markUsed();
+				return reference;
 			} catch (Throwable exception) {
 				throw new UnimplementedCapacityException(capacity, getID(), exception);
 			}
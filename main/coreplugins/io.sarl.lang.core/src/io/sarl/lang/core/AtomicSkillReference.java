@@ -49,6 +49,8 @@ public class AtomicSkillReference implements Serializable, Cloneable {
 
 	private volatile Skill reference;
 
+	private transient boolean used;
+
 	/** Constructor.
 	 *
 	 * @param object the object to reference to.
@@ -78,6 +80,29 @@ public class AtomicSkillReference implements Serializable, Cloneable {
 		return this.reference;
 	}
 
+	/** Mark the referenced skill as used by its owner.
+	 *
+	 * <p>The flag is not protected against concurrent accesses because it is only a statistic
+	 * that could be set several times with the same value.
+	 *
+	 * @since 0.11
+	 */
+	void markUsed() {
+		if (!this.used) {
+			this.used = true;
+		}
+	}
+
+	/** Replies if the referenced skill was accessed by its owner through
+	 * a call to a capacity function since it was attached.
+	 *
+	 * @return {@code true} if the skill was used.
+	 * @since 0.11
+	 */
+	boolean isUsed() {
+		return this.used;
+	}
+
 	/**
 	 * Clears this reference object.
 	 *
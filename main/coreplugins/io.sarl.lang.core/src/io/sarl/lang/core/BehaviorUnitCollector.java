@@ -0,0 +1,73 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.core;
+
+import java.util.Collection;
+
+/** Collection of the behavior units that must be run for an event, which is able to store the
+ * behavior units without wrapping them into {@link Runnable} instances.
+ *
+ * <p>The guard evaluators that are generated by the SARL compiler receive a collection of runnables
+ * that is filled with the behavior units to run. When the run-time environment gives a collection
+ * that implements this interface, the generated code may invoke {@link #addBehaviorUnit(Object, Object, BehaviorUnitHandler)}
+ * for avoiding the allocation of a capturing lambda for each behavior unit.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ * @see BehaviorUnitHandler
+ */
+public interface BehaviorUnitCollector {
+
+	/** Add a behavior unit to run.
+	 *
+	 * @param <T> the type of the object that is declaring the behavior unit.
+	 * @param <E> the type of the event.
+	 * @param target the object that is declaring the behavior unit.
+	 * @param occurrence the event occurrence.
+	 * @param handler the invoker of the behavior unit.
+	 */
+	<T, E> void addBehaviorUnit(T target, E occurrence, BehaviorUnitHandler<? super T, ? super E> handler);
+
+	/** Add a behavior unit to run into the given collection.
+	 *
+	 * <p>If the collection is a {@link BehaviorUnitCollector}, the behavior unit is directly added.
+	 * Otherwise, a runnable that is invoking the behavior unit is added to the collection.
+	 *
+	 * @param <T> the type of the object that is declaring the behavior unit.
+	 * @param <E> the type of the event.
+	 * @param collection the collection of behavior units to fill.
+	 * @param target the object that is declaring the behavior unit.
+	 * @param occurrence the event occurrence.
+	 * @param handler the invoker of the behavior unit.
+	 */
+	static <T, E> void collect(Collection<Runnable> collection, T target, E occurrence,
+			BehaviorUnitHandler<? super T, ? super E> handler) {
+		if (collection instanceof BehaviorUnitCollector) {
+			((BehaviorUnitCollector) collection).addBehaviorUnit(target, occurrence, handler);
+		} else {
+			collection.add(() -> handler.invoke(target, occurrence));
+		}
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.core;
+
+/** Invoker of the body of a behavior unit, i.e. an {@code on} clause, on a given event handler owner.
+ *
+ * <p>The SARL compiler could generate the handlers as non-capturing method references to the
+ * generated behavior unit functions. Such references are created once by the JVM and reused for all the
+ * events; the target and the event occurrence are passed as arguments.
+ *
+ * @param <T> the type of the object that is declaring the behavior unit.
+ * @param <E> the type of the event.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ * @see BehaviorUnitCollector
+ */
+@FunctionalInterface
+public interface BehaviorUnitHandler<T, E> {
+
+	/** Run the behavior unit.
+	 *
+	 * @param target the object that is declaring the behavior unit.
+	 * @param occurrence the event occurrence.
+	 */
+	void invoke(T target, E occurrence);
+
+}
@@ -27,6 +27,8 @@ import java.util.UUID;
 import org.eclipse.xtext.xbase.lib.Pure;
 import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
 
+import io.sarl.lang.annotation.Prioritized;
+
 /** Elementary interaction unit inside an {@link EventSpace} An event is the
  * specification of some occurrence in a Space that may potentially trigger
  * effects by a listener. Within a Space, the notion of {@link Scope} enables to
@@ -41,8 +43,21 @@ public abstract class Event implements Serializable {
 
 	private static final long serialVersionUID = -4314428111329600890L;
 
+	private static final ClassValue<EventPriority> TYPE_PRIORITIES = new ClassValue<EventPriority>() {
+		@Override
+		protected EventPriority computeValue(Class<?> type) {
+			final Prioritized annotation = type.getAnnotation(Prioritized.class);
+			if (annotation != null && annotation.value() != null) {
+				return annotation.value();
+			}
+			return EventPriority.getDefault();
+		}
+	};
+
 	private Address source;
 
+	private transient EventPriority priority;
+
 	/** Constructs an Event without source.
 	 * The source must be set with {@link #setSource(Address)}
 	 * by the creator of the event, or by the emitting mechanism,
@@ -59,6 +74,19 @@ public abstract class Event implements Serializable {
 		this.source = source;
 	}
 
+	/** Constructs an Event from the given binary input.
+	 *
+	 * <p>This constructor is invoked by the constructors that are generated by the SARL compiler
+	 * for decoding the events. It is the counterpart of {@link #writeFields(EventOutput)}.
+	 *
+	 * @param input the provider of the bytes.
+	 * @since 0.11
+	 * @see EventCodecRegistry
+	 */
+	protected Event(EventInput input) {
+		this.source = input.readAddress();
+	}
+
 	@Override
 	@Pure
 	public boolean equals(Object obj) {
@@ -102,6 +130,35 @@ public abstract class Event implements Serializable {
 		this.source = source;
 	}
 
+	/** Replies the delivery priority of this event.
+	 *
+	 * <p>The priority is the one given to {@link #setPriority(EventPriority)}, or the one specified by
+	 * the {@link Prioritized} annotation of the event type, or {@link EventPriority#NORMAL}.
+	 *
+	 * @return the priority, never {@code null}.
+	 * @since 0.11
+	 */
+	@Pure
+	public EventPriority getPriority() {
+		final EventPriority prio = this.priority;
+		if (prio != null) {
+			return prio;
+		}
+		return TYPE_PRIORITIES.get(getClass());
+	}
+
+	/** Override the delivery priority of this event.
+	 *
+	 * <p>The overriding priority is not part of the state of the event: it is not transmitted
+	 * to the other nodes of the run-time environment, and it is not considered by {@link #equals(Object)}.
+	 *
+	 * @param priority the priority, or {@code null} for using the priority of the event type.
+	 * @since 0.11
+	 */
+	public void setPriority(EventPriority priority) {
+		this.priority = priority;
+	}
+
 	@Override
 	@Pure
 	public final String toString() {
@@ -121,6 +178,19 @@ public abstract class Event implements Serializable {
 		builder.add("source", this.source); //$NON-NLS-1$
 	}
 
+	/** Write the fields of this event into the given binary output.
+	 *
+	 * <p>This function is overridden by the functions that are generated by the SARL compiler
+	 * for encoding the events. It is the counterpart of {@link #Event(EventInput)}.
+	 *
+	 * @param output the receiver of the bytes.
+	 * @since 0.11
+	 * @see EventCodecRegistry
+	 */
+	protected void writeFields(EventOutput output) {
+		output.writeAddress(this.source);
+	}
+
 	/** Replies if the event was emitted by an entity with the given address.
 	 *
 	 * @param address the address of the emitter to test.
@@ -0,0 +1,59 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.core;
+
+/** Binary encoder and decoder of events of a specific type.
+ *
+ * <p>The SARL compiler generates the encoding and decoding code of each event when the option
+ * {@code generateEventCodecs} is enabled. The codecs of other event types may be provided
+ * to the {@link EventCodecRegistry}.
+ *
+ * @param <T> the type of the events.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+public interface EventCodec<T extends Event> {
+
+	/** Replies the type of the events supported by this codec.
+	 *
+	 * @return the type of the events.
+	 */
+	Class<T> getEventType();
+
+	/** Write the fields of the given event into the output.
+	 *
+	 * @param event the event to write.
+	 * @param output the receiver of the bytes.
+	 */
+	void encode(T event, EventOutput output);
+
+	/** Read an event from the given input.
+	 *
+	 * @param input the provider of the bytes.
+	 * @return the event.
+	 */
+	T decode(EventInput input);
+
+}
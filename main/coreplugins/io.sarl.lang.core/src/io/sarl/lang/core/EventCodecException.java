@@ -0,0 +1,53 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.core;
+
+/** Exception thrown when an event cannot be encoded or decoded by the {@link EventCodecRegistry}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+public class EventCodecException extends RuntimeException {
+
+	private static final long serialVersionUID = -3029127483216350877L;
+
+	/** Constructor.
+	 *
+	 * @param message the error message.
+	 */
+	public EventCodecException(String message) {
+		super(message);
+	}
+
+	/** Constructor.
+	 *
+	 * @param message the error message.
+	 * @param cause the cause of the error.
+	 */
+	public EventCodecException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+}
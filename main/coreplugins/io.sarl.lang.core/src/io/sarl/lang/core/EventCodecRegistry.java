@@ -0,0 +1,378 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/** Registry of the binary codecs of the events.
+ *
+ * <p>The registry encodes an event with the codec that is registered for its type with
+ * {@link #register(EventCodec)}, or with the codec that is generated by the SARL compiler
+ * when the option {@code generateEventCodecs} is enabled. The generated codec writes and
+ * reads the fields of the event one by one, without reflection; and it checks a schema
+ * identifier for each level of the event type hierarchy. The events without codec are
+ * encoded with the Java serialization.
+ *
+ * <p>The Java serialization is restricted to an allow-list of types: the events, the identifiers
+ * of SARL, the enumerations, the boxed primitive values, the strings, the standard collections,
+ * and the types that are registered with {@link #registerSerializableType(Class)}.
+ *
+ * <p>The registry may be used by the network transports, the journals and the checkpoints.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+public class EventCodecRegistry {
+
+	/** Name of the function that is generated for writing the fields of an event.
+	 */
+	public static final String WRITE_FIELDS_FUNCTION_NAME = "writeFields"; //$NON-NLS-1$
+
+	private static final int BINARY_FORMAT = 0;
+
+	private static final int SERIALIZED_FORMAT = 1;
+
+	private static final Set<String> DEFAULT_SERIALIZABLE_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+			"java.lang.Object", //$NON-NLS-1$
+			"java.lang.String", //$NON-NLS-1$
+			"java.lang.Boolean", //$NON-NLS-1$
+			"java.lang.Character", //$NON-NLS-1$
+			"java.lang.Number", //$NON-NLS-1$
+			"java.lang.Byte", //$NON-NLS-1$
+			"java.lang.Short", //$NON-NLS-1$
+			"java.lang.Integer", //$NON-NLS-1$
+			"java.lang.Long", //$NON-NLS-1$
+			"java.lang.Float", //$NON-NLS-1$
+			"java.lang.Double", //$NON-NLS-1$
+			"java.lang.Enum", //$NON-NLS-1$
+			"java.math.BigInteger", //$NON-NLS-1$
+			"java.math.BigDecimal", //$NON-NLS-1$
+			"java.util.UUID", //$NON-NLS-1$
+			"java.util.ArrayList", //$NON-NLS-1$
+			"java.util.LinkedList", //$NON-NLS-1$
+			"java.util.ArrayDeque", //$NON-NLS-1$
+			"java.util.HashMap", //$NON-NLS-1$
+			"java.util.LinkedHashMap", //$NON-NLS-1$
+			"java.util.TreeMap", //$NON-NLS-1$
+			"java.util.HashSet", //$NON-NLS-1$
+			"java.util.LinkedHashSet", //$NON-NLS-1$
+			"java.util.TreeSet", //$NON-NLS-1$
+			"java.util.Arrays$ArrayList", //$NON-NLS-1$
+			"java.util.concurrent.ConcurrentHashMap", //$NON-NLS-1$
+			"java.util.concurrent.ConcurrentLinkedQueue", //$NON-NLS-1$
+			"java.util.concurrent.ConcurrentLinkedDeque", //$NON-NLS-1$
+			"java.util.concurrent.CopyOnWriteArrayList"))); //$NON-NLS-1$
+
+	private static final String COLLECTIONS_PREFIX = "java.util.Collections$"; //$NON-NLS-1$
+
+	private static volatile EventCodecRegistry defaultRegistry;
+
+	private final ClassLoader classLoader;
+
+	private final ConcurrentMap<Class<?>, EventCodec<?>> codecs = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<String, Class<? extends Event>> types = new ConcurrentHashMap<>();
+
+	private final Set<Class<?>> serializableTypes = ConcurrentHashMap.newKeySet();
+
+	private final ClassValue<Optional<EventCodec<?>>> generatedCodecs = new ClassValue<Optional<EventCodec<?>>>() {
+		@Override
+		protected Optional<EventCodec<?>> computeValue(Class<?> type) {
+			return Optional.ofNullable(createGeneratedCodec(type));
+		}
+	};
+
+	/** Constructor.
+	 *
+	 * @param classLoader the class loader that is used for loading the event types.
+	 */
+	public EventCodecRegistry(ClassLoader classLoader) {
+		this.classLoader = classLoader == null ? EventCodecRegistry.class.getClassLoader() : classLoader;
+	}
+
+	/** Replies the default registry.
+	 *
+	 * @return the default registry.
+	 */
+	public static EventCodecRegistry getDefault() {
+		EventCodecRegistry registry = defaultRegistry;
+		if (registry == null) {
+			synchronized (EventCodecRegistry.class) {
+				registry = defaultRegistry;
+				if (registry == null) {
+					registry = new EventCodecRegistry(null);
+					defaultRegistry = registry;
+				}
+			}
+		}
+		return registry;
+	}
+
+	/** Replies the class loader that is used for loading the event types.
+	 *
+	 * @return the class loader.
+	 */
+	@Pure
+	public ClassLoader getClassLoader() {
+		return this.classLoader;
+	}
+
+	/** Register a codec. The registered codec replaces the one that is generated by the SARL compiler.
+	 *
+	 * @param <T> the type of the events.
+	 * @param codec the codec.
+	 */
+	public <T extends Event> void register(EventCodec<T> codec) {
+		this.codecs.put(codec.getEventType(), codec);
+	}
+
+	/** Unregister the codec for the given type.
+	 *
+	 * @param type the type of the events.
+	 */
+	public void unregister(Class<? extends Event> type) {
+		this.codecs.remove(type);
+	}
+
+	/** Allow the deserialization of the given type with the Java serialization. The sub-types are not
+	 * allowed by this registration.
+	 *
+	 * @param type the type.
+	 */
+	public void registerSerializableType(Class<?> type) {
+		this.serializableTypes.add(type);
+	}
+
+	/** Replies if the given type could be deserialized with the Java serialization.
+	 *
+	 * @param type the type.
+	 * @return {@code true} if the type is in the allow-list.
+	 */
+	@Pure
+	public boolean isSerializableType(Class<?> type) {
+		Class<?> current = type;
+		while (current.isArray()) {
+			current = current.getComponentType();
+		}
+		if (current.isPrimitive() || Enum.class.isAssignableFrom(current) || this.serializableTypes.contains(current)) {
+			return true;
+		}
+		if (Event.class.isAssignableFrom(current) || current == Address.class || current == SpaceID.class) {
+			return true;
+		}
+		final String name = current.getName();
+		return DEFAULT_SERIALIZABLE_TYPES.contains(name) || name.startsWith(COLLECTIONS_PREFIX);
+	}
+
+	/** Replies the codec for the given type of events.
+	 *
+	 * @param <T> the type of the events.
+	 * @param type the type of the events.
+	 * @return the codec, or {@code null} if the events of the given type are encoded with the Java serialization.
+	 */
+	@SuppressWarnings("unchecked")
+	@Pure
+	public <T extends Event> EventCodec<T> getCodec(Class<T> type) {
+		final EventCodec<?> codec = this.codecs.get(type);
+		if (codec != null) {
+			return (EventCodec<T>) codec;
+		}
+		return (EventCodec<T>) this.generatedCodecs.get(type).orElse(null);
+	}
+
+	/** Encode the given event.
+	 *
+	 * @param event the event to encode.
+	 * @return the bytes.
+	 */
+	public byte[] encode(Event event) {
+		final EventOutput output = new EventOutput(this, ByteBuffer.allocate(256));
+		encode(event, output);
+		return output.toByteArray();
+	}
+
+	/** Encode the given event into the given output.
+	 *
+	 * @param <T> the type of the event.
+	 * @param event the event to encode.
+	 * @param output the receiver of the bytes.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends Event> void encode(T event, EventOutput output) {
+		assert event != null;
+		final Class<T> type = (Class<T>) event.getClass();
+		output.writeString(type.getName());
+		final EventCodec<T> codec = getCodec(type);
+		if (codec != null) {
+			output.writeByte(BINARY_FORMAT);
+			codec.encode(event, output);
+		} else {
+			output.writeByte(SERIALIZED_FORMAT);
+			output.writeSerializable(event);
+		}
+	}
+
+	/** Decode an event.
+	 *
+	 * @param bytes the bytes.
+	 * @return the event.
+	 */
+	public Event decode(byte[] bytes) {
+		return decode(ByteBuffer.wrap(bytes));
+	}
+
+	/** Decode an event.
+	 *
+	 * @param buffer the bytes.
+	 * @return the event.
+	 */
+	public Event decode(ByteBuffer buffer) {
+		return decode(new EventInput(this, buffer));
+	}
+
+	/** Decode an event from the given input.
+	 *
+	 * @param input the provider of the bytes.
+	 * @return the event.
+	 */
+	public Event decode(EventInput input) {
+		final Class<? extends Event> type = getEventType(input.readString());
+		final int format = input.readByte();
+		if (format == BINARY_FORMAT) {
+			final EventCodec<? extends Event> codec = getCodec(type);
+			if (codec == null) {
+				throw new EventCodecException("no codec for " + type.getName()); //$NON-NLS-1$
+			}
+			return codec.decode(input);
+		}
+		return type.cast(input.readSerializable());
+	}
+
+	/** Replies the event type with the given name.
+	 *
+	 * @param name the name of the type.
+	 * @return the type.
+	 */
+	protected Class<? extends Event> getEventType(String name) {
+		if (name == null) {
+			throw new EventCodecException("no event type"); //$NON-NLS-1$
+		}
+		return this.types.computeIfAbsent(name, it -> {
+			try {
+				// The type is not initialized before it is known as an event type
+				return Class.forName(it, false, this.classLoader).asSubclass(Event.class);
+			} catch (ClassNotFoundException | ClassCastException exception) {
+				throw new EventCodecException(exception.getLocalizedMessage(), exception);
+			}
+		});
+	}
+
+	/** Create the codec that is based on the functions generated by the SARL compiler.
+	 *
+	 * <p>The type and each of its super-types, until {@link Event}, must declare the function
+	 * {@code writeFields(EventOutput)} and a constructor with an {@link EventInput} parameter.
+	 *
+	 * @param type the type of the events.
+	 * @return the codec, or {@code null} if the generated functions are not available.
+	 */
+	protected EventCodec<?> createGeneratedCodec(Class<?> type) {
+		if (!Event.class.isAssignableFrom(type) || Modifier.isAbstract(type.getModifiers())) {
+			return null;
+		}
+		try {
+			Class<?> current = type;
+			while (current != Event.class) {
+				current.getDeclaredMethod(WRITE_FIELDS_FUNCTION_NAME, EventOutput.class);
+				current.getDeclaredConstructor(EventInput.class);
+				current = current.getSuperclass();
+			}
+			final Constructor<?> constructor = type.getDeclaredConstructor(EventInput.class);
+			constructor.setAccessible(true);
+			final MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+					.asType(MethodType.methodType(Event.class, EventInput.class));
+			return new GeneratedEventCodec<>(type.asSubclass(Event.class), handle);
+		} catch (NoSuchMethodException | IllegalAccessException | SecurityException exception) {
+			return null;
+		}
+	}
+
+	/** Codec that is based on the functions generated by the SARL compiler.
+	 *
+	 * @param <T> the type of the events.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.11
+	 */
+	private static final class GeneratedEventCodec<T extends Event> implements EventCodec<T> {
+
+		private final Class<T> type;
+
+		private final MethodHandle constructor;
+
+		GeneratedEventCodec(Class<T> type, MethodHandle constructor) {
+			this.type = type;
+			this.constructor = constructor;
+		}
+
+		@Override
+		public Class<T> getEventType() {
+			return this.type;
+		}
+
+		@Override
+		public void encode(T event, EventOutput output) {
+			event.writeFields(output);
+		}
+
+		@Override
+		public T decode(EventInput input) {
+			try {
+				return this.type.cast((Event) this.constructor.invokeExact(input));
+			} catch (RuntimeException | Error exception) {
+				throw exception;
+			} catch (Throwable exception) {
+				throw new EventCodecException(exception.getLocalizedMessage(), exception);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,342 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.UUID;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import io.sarl.lang.core.EventOutput.ObjectTag;
+
+/** Binary input for the decoding of events.
+ *
+ * <p>The bytes are read from a {@link ByteBuffer}. The functions of this input are invoked by the
+ * code that is generated by the SARL compiler for each event.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ * @see EventOutput
+ */
+public class EventInput {
+
+	private final EventCodecRegistry registry;
+
+	private final ByteBuffer buffer;
+
+	/** Constructor with the default registry.
+	 *
+	 * @param buffer the buffer to read from.
+	 */
+	public EventInput(ByteBuffer buffer) {
+		this(EventCodecRegistry.getDefault(), buffer);
+	}
+
+	/** Constructor.
+	 *
+	 * @param registry the registry that is used for decoding the events that are stored in the fields.
+	 * @param buffer the buffer to read from.
+	 */
+	public EventInput(EventCodecRegistry registry, ByteBuffer buffer) {
+		assert registry != null;
+		assert buffer != null;
+		this.registry = registry;
+		this.buffer = buffer;
+	}
+
+	/** Replies the registry that is used for decoding the events that are stored in the fields.
+	 *
+	 * @return the registry.
+	 */
+	@Pure
+	public EventCodecRegistry getRegistry() {
+		return this.registry;
+	}
+
+	/** Replies the buffer from which the bytes are read.
+	 *
+	 * @return the buffer.
+	 */
+	@Pure
+	public ByteBuffer getBuffer() {
+		return this.buffer;
+	}
+
+	/** Read the schema identifier of a level of the event type hierarchy, and check it.
+	 *
+	 * @param expectedSchema the identifier of the schema that is known by the reader.
+	 * @param type the type that is associated to the schema.
+	 * @throws EventCodecException if the read schema is not the expected one.
+	 * @see EventOutput#writeSchema(int)
+	 */
+	public void readSchema(int expectedSchema, Class<?> type) {
+		final int schema = readInt();
+		if (schema != expectedSchema) {
+			throw new EventCodecException(MessageFormat.format(
+					"incompatible schema for {0}: {1} expected, {2} found", //$NON-NLS-1$
+					type.getName(), Integer.toHexString(expectedSchema), Integer.toHexString(schema)));
+		}
+	}
+
+	/** Read a boolean.
+	 *
+	 * @return the value.
+	 */
+	public boolean readBoolean() {
+		return this.buffer.get() != 0;
+	}
+
+	/** Read a byte.
+	 *
+	 * @return the value.
+	 */
+	public byte readByte() {
+		return this.buffer.get();
+	}
+
+	/** Read a short integer.
+	 *
+	 * @return the value.
+	 */
+	public short readShort() {
+		return this.buffer.getShort();
+	}
+
+	/** Read a character.
+	 *
+	 * @return the value.
+	 */
+	public char readChar() {
+		return this.buffer.getChar();
+	}
+
+	/** Read an integer.
+	 *
+	 * @return the value.
+	 */
+	public int readInt() {
+		return this.buffer.getInt();
+	}
+
+	/** Read a long integer.
+	 *
+	 * @return the value.
+	 */
+	public long readLong() {
+		return this.buffer.getLong();
+	}
+
+	/** Read a float.
+	 *
+	 * @return the value.
+	 */
+	public float readFloat() {
+		return this.buffer.getFloat();
+	}
+
+	/** Read a double.
+	 *
+	 * @return the value.
+	 */
+	public double readDouble() {
+		return this.buffer.getDouble();
+	}
+
+	/** Read a string.
+	 *
+	 * @return the value, or {@code null}.
+	 */
+	public String readString() {
+		final int length = readInt();
+		if (length < 0) {
+			return null;
+		}
+		final byte[] bytes = new byte[checkLength(length, 1)];
+		this.buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/** Read an identifier.
+	 *
+	 * @return the value, or {@code null}.
+	 */
+	public UUID readUUID() {
+		if (readByte() == 0) {
+			return null;
+		}
+		return new UUID(this.buffer.getLong(), this.buffer.getLong());
+	}
+
+	/** Read a space identifier.
+	 *
+	 * @return the value, or {@code null}.
+	 */
+	public SpaceID readSpaceID() {
+		if (readByte() == 0) {
+			return null;
+		}
+		final UUID contextID = new UUID(this.buffer.getLong(), this.buffer.getLong());
+		final UUID id = new UUID(this.buffer.getLong(), this.buffer.getLong());
+		return new SpaceID(contextID, id, null);
+	}
+
+	/** Read an address.
+	 *
+	 * @return the value, or {@code null}.
+	 */
+	public Address readAddress() {
+		if (readByte() == 0) {
+			return null;
+		}
+		final UUID contextID = new UUID(this.buffer.getLong(), this.buffer.getLong());
+		final UUID spaceID = new UUID(this.buffer.getLong(), this.buffer.getLong());
+		final UUID id = new UUID(this.buffer.getLong(), this.buffer.getLong());
+		return new Address(new SpaceID(contextID, spaceID, null), id);
+	}
+
+	/** Read an event.
+	 *
+	 * @return the value, or {@code null}.
+	 */
+	public Event readEvent() {
+		if (readByte() == 0) {
+			return null;
+		}
+		return this.registry.decode(this);
+	}
+
+	/** Read an object that was written with {@link EventOutput#writeObject(Object)}.
+	 *
+	 * @return the value, or {@code null}.
+	 */
+	public Object readObject() {
+		final int tag = readByte();
+		switch (tag) {
+		case ObjectTag.NULL:
+			return null;
+		case ObjectTag.STRING:
+			return readString();
+		case ObjectTag.INTEGER:
+			return Integer.valueOf(readInt());
+		case ObjectTag.LONG:
+			return Long.valueOf(readLong());
+		case ObjectTag.DOUBLE:
+			return Double.valueOf(readDouble());
+		case ObjectTag.FLOAT:
+			return Float.valueOf(readFloat());
+		case ObjectTag.BOOLEAN:
+			return Boolean.valueOf(readBoolean());
+		case ObjectTag.SHORT:
+			return Short.valueOf(readShort());
+		case ObjectTag.BYTE:
+			return Byte.valueOf(readByte());
+		case ObjectTag.CHARACTER:
+			return Character.valueOf(readChar());
+		case ObjectTag.UUID:
+			return readUUID();
+		case ObjectTag.ADDRESS:
+			return readAddress();
+		case ObjectTag.SPACE_ID:
+			return readSpaceID();
+		case ObjectTag.EVENT:
+			return this.registry.decode(this);
+		case ObjectTag.OBJECT_ARRAY:
+			// Each element is written with at least its tag
+			final Object[] array = new Object[checkLength(readInt(), 1)];
+			for (int i = 0; i < array.length; ++i) {
+				array[i] = readObject();
+			}
+			return array;
+		case ObjectTag.SERIALIZABLE:
+			return readSerializable();
+		default:
+			throw new EventCodecException("unknown object tag: " + tag); //$NON-NLS-1$
+		}
+	}
+
+	/** Check that the given number of elements could be read from the remaining bytes.
+	 * This function must be invoked before allocating the memory for the elements.
+	 *
+	 * @param length the number of elements that were read from the input.
+	 * @param elementSize the minimal number of bytes that are needed for an element.
+	 * @return the {@code length}.
+	 * @throws EventCodecException if the length is negative or greater than the number of remaining bytes.
+	 */
+	protected int checkLength(int length, int elementSize) {
+		if (length < 0 || length > this.buffer.remaining() / elementSize) {
+			throw new EventCodecException(MessageFormat.format(
+					"invalid length: {0}; remaining bytes: {1}", //$NON-NLS-1$
+					Integer.toString(length), Integer.toString(this.buffer.remaining())));
+		}
+		return length;
+	}
+
+	/** Read an object with the Java serialization.
+	 *
+	 * <p>Only the types that are accepted by {@link EventCodecRegistry#isSerializableType(Class)} could be
+	 * deserialized. Any other type that is found into the stream stops the reading before the
+	 * instance is created.
+	 *
+	 * @return the value.
+	 */
+	protected Object readSerializable() {
+		final byte[] bytes = new byte[checkLength(readInt(), 1)];
+		this.buffer.get(bytes);
+		final EventCodecRegistry registry = this.registry;
+		final ClassLoader classLoader = registry.getClassLoader();
+		try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(bytes)) {
+			@Override
+			protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+				Class<?> type;
+				try {
+					type = Class.forName(desc.getName(), false, classLoader);
+				} catch (ClassNotFoundException exception) {
+					type = super.resolveClass(desc);
+				}
+				if (!registry.isSerializableType(type)) {
+					throw new InvalidClassException(desc.getName(), "type not allowed for deserialization"); //$NON-NLS-1$
+				}
+				return type;
+			}
+
+			@Override
+			protected Class<?> resolveProxyClass(String[] interfaces) throws IOException, ClassNotFoundException {
+				throw new InvalidClassException("proxy classes are not allowed for deserialization"); //$NON-NLS-1$
+			}
+		}) {
+			return stream.readObject();
+		} catch (IOException | ClassNotFoundException exception) {
+			throw new EventCodecException(exception.getLocalizedMessage(), exception);
+		}
+	}
+
+}
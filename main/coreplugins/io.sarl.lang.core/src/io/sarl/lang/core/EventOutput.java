@@ -0,0 +1,408 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/** Binary output for the encoding of events.
+ *
+ * <p>The bytes are written into a {@link ByteBuffer} that is enlarged when needed. The functions of
+ * this output are invoked by the code that is generated by the SARL compiler for each event.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ * @see EventInput
+ */
+public class EventOutput {
+
+	private static final int DEFAULT_CAPACITY = 256;
+
+	private final EventCodecRegistry registry;
+
+	private ByteBuffer buffer;
+
+	/** Constructor with the default registry.
+	 */
+	public EventOutput() {
+		this(EventCodecRegistry.getDefault(), ByteBuffer.allocate(DEFAULT_CAPACITY));
+	}
+
+	/** Constructor.
+	 *
+	 * @param registry the registry that is used for encoding the events that are stored in the fields.
+	 * @param buffer the buffer to write into. It is replaced by a larger buffer when it is full.
+	 */
+	public EventOutput(EventCodecRegistry registry, ByteBuffer buffer) {
+		assert registry != null;
+		assert buffer != null;
+		this.registry = registry;
+		this.buffer = buffer;
+	}
+
+	/** Replies the registry that is used for encoding the events that are stored in the fields.
+	 *
+	 * @return the registry.
+	 */
+	@Pure
+	public EventCodecRegistry getRegistry() {
+		return this.registry;
+	}
+
+	/** Replies the buffer that contains the written bytes. The position of the buffer is
+	 * the number of written bytes.
+	 *
+	 * @return the buffer.
+	 */
+	@Pure
+	public ByteBuffer getBuffer() {
+		return this.buffer;
+	}
+
+	/** Replies a copy of the written bytes.
+	 *
+	 * @return the written bytes.
+	 */
+	@Pure
+	public byte[] toByteArray() {
+		final byte[] bytes = new byte[this.buffer.position()];
+		final ByteBuffer view = this.buffer.duplicate();
+		view.flip();
+		view.get(bytes);
+		return bytes;
+	}
+
+	/** Ensure that the given number of bytes could be written.
+	 *
+	 * @param size the number of bytes to write.
+	 */
+	protected void ensureCapacity(int size) {
+		if (this.buffer.remaining() < size) {
+			final int capacity = Math.max(this.buffer.capacity() * 2, this.buffer.position() + size);
+			final ByteBuffer newBuffer = this.buffer.isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+			this.buffer.flip();
+			newBuffer.put(this.buffer);
+			this.buffer = newBuffer;
+		}
+	}
+
+	/** Write the schema identifier of a level of the event type hierarchy.
+	 *
+	 * @param schema the identifier of the schema.
+	 * @see EventInput#readSchema(int, Class)
+	 */
+	public void writeSchema(int schema) {
+		writeInt(schema);
+	}
+
+	/** Write a boolean.
+	 *
+	 * @param value the value.
+	 */
+	public void writeBoolean(boolean value) {
+		writeByte(value ? 1 : 0);
+	}
+
+	/** Write a byte.
+	 *
+	 * @param value the value.
+	 */
+	public void writeByte(int value) {
+		ensureCapacity(1);
+		this.buffer.put((byte) value);
+	}
+
+	/** Write a short integer.
+	 *
+	 * @param value the value.
+	 */
+	public void writeShort(short value) {
+		ensureCapacity(2);
+		this.buffer.putShort(value);
+	}
+
+	/** Write a character.
+	 *
+	 * @param value the value.
+	 */
+	public void writeChar(char value) {
+		ensureCapacity(2);
+		this.buffer.putChar(value);
+	}
+
+	/** Write an integer.
+	 *
+	 * @param value the value.
+	 */
+	public void writeInt(int value) {
+		ensureCapacity(4);
+		this.buffer.putInt(value);
+	}
+
+	/** Write a long integer.
+	 *
+	 * @param value the value.
+	 */
+	public void writeLong(long value) {
+		ensureCapacity(8);
+		this.buffer.putLong(value);
+	}
+
+	/** Write a float.
+	 *
+	 * @param value the value.
+	 */
+	public void writeFloat(float value) {
+		ensureCapacity(4);
+		this.buffer.putFloat(value);
+	}
+
+	/** Write a double.
+	 *
+	 * @param value the value.
+	 */
+	public void writeDouble(double value) {
+		ensureCapacity(8);
+		this.buffer.putDouble(value);
+	}
+
+	/** Write a string that may be {@code null}.
+	 *
+	 * @param value the value.
+	 */
+	public void writeString(String value) {
+		if (value == null) {
+			writeInt(-1);
+		} else {
+			final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			writeInt(bytes.length);
+			ensureCapacity(bytes.length);
+			this.buffer.put(bytes);
+		}
+	}
+
+	/** Write an identifier that may be {@code null}.
+	 *
+	 * @param value the value.
+	 */
+	public void writeUUID(UUID value) {
+		if (value == null) {
+			writeByte(0);
+		} else {
+			ensureCapacity(17);
+			this.buffer.put((byte) 1);
+			this.buffer.putLong(value.getMostSignificantBits());
+			this.buffer.putLong(value.getLeastSignificantBits());
+		}
+	}
+
+	/** Write a space identifier that may be {@code null}.
+	 *
+	 * <p>The space specification is not written, as for the Java serialization of {@link SpaceID}.
+	 *
+	 * @param value the value.
+	 */
+	public void writeSpaceID(SpaceID value) {
+		if (value == null) {
+			writeByte(0);
+		} else {
+			ensureCapacity(33);
+			this.buffer.put((byte) 1);
+			this.buffer.putLong(value.getContextID().getMostSignificantBits());
+			this.buffer.putLong(value.getContextID().getLeastSignificantBits());
+			this.buffer.putLong(value.getID().getMostSignificantBits());
+			this.buffer.putLong(value.getID().getLeastSignificantBits());
+		}
+	}
+
+	/** Write an address that may be {@code null}.
+	 *
+	 * @param value the value.
+	 */
+	public void writeAddress(Address value) {
+		if (value == null) {
+			writeByte(0);
+		} else {
+			final SpaceID spaceID = value.getSpaceID();
+			ensureCapacity(49);
+			this.buffer.put((byte) 1);
+			this.buffer.putLong(spaceID.getContextID().getMostSignificantBits());
+			this.buffer.putLong(spaceID.getContextID().getLeastSignificantBits());
+			this.buffer.putLong(spaceID.getID().getMostSignificantBits());
+			this.buffer.putLong(spaceID.getID().getLeastSignificantBits());
+			this.buffer.putLong(value.getUUID().getMostSignificantBits());
+			this.buffer.putLong(value.getUUID().getLeastSignificantBits());
+		}
+	}
+
+	/** Write an event that may be {@code null}.
+	 *
+	 * @param value the value.
+	 */
+	public void writeEvent(Event value) {
+		if (value == null) {
+			writeByte(0);
+		} else {
+			writeByte(1);
+			this.registry.encode(value, this);
+		}
+	}
+
+	/** Write an object that may be {@code null}. The strings, the identifiers, the addresses, the events
+	 * and the boxed primitive values are written in binary format. The other objects are written with the
+	 * Java serialization.
+	 *
+	 * @param value the value.
+	 */
+	public void writeObject(Object value) {
+		if (value == null) {
+			writeByte(ObjectTag.NULL);
+		} else if (value instanceof String) {
+			writeByte(ObjectTag.STRING);
+			writeString((String) value);
+		} else if (value instanceof Integer) {
+			writeByte(ObjectTag.INTEGER);
+			writeInt(((Integer) value).intValue());
+		} else if (value instanceof Long) {
+			writeByte(ObjectTag.LONG);
+			writeLong(((Long) value).longValue());
+		} else if (value instanceof Double) {
+			writeByte(ObjectTag.DOUBLE);
+			writeDouble(((Double) value).doubleValue());
+		} else if (value instanceof Float) {
+			writeByte(ObjectTag.FLOAT);
+			writeFloat(((Float) value).floatValue());
+		} else if (value instanceof Boolean) {
+			writeByte(ObjectTag.BOOLEAN);
+			writeBoolean(((Boolean) value).booleanValue());
+		} else if (value instanceof Short) {
+			writeByte(ObjectTag.SHORT);
+			writeShort(((Short) value).shortValue());
+		} else if (value instanceof Byte) {
+			writeByte(ObjectTag.BYTE);
+			writeByte(((Byte) value).byteValue());
+		} else if (value instanceof Character) {
+			writeByte(ObjectTag.CHARACTER);
+			writeChar(((Character) value).charValue());
+		} else if (value instanceof UUID) {
+			writeByte(ObjectTag.UUID);
+			writeUUID((UUID) value);
+		} else if (value instanceof Address) {
+			writeByte(ObjectTag.ADDRESS);
+			writeAddress((Address) value);
+		} else if (value instanceof SpaceID) {
+			writeByte(ObjectTag.SPACE_ID);
+			writeSpaceID((SpaceID) value);
+		} else if (value instanceof Event) {
+			writeByte(ObjectTag.EVENT);
+			this.registry.encode((Event) value, this);
+		} else if (value.getClass() == Object[].class) {
+			final Object[] array = (Object[]) value;
+			writeByte(ObjectTag.OBJECT_ARRAY);
+			writeInt(array.length);
+			for (final Object element : array) {
+				writeObject(element);
+			}
+		} else if (value instanceof Serializable) {
+			writeByte(ObjectTag.SERIALIZABLE);
+			writeSerializable((Serializable) value);
+		} else {
+			throw new EventCodecException("not serializable: " + value.getClass().getName()); //$NON-NLS-1$
+		}
+	}
+
+	/** Write an object with the Java serialization.
+	 *
+	 * @param value the value.
+	 */
+	protected void writeSerializable(Serializable value) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream stream = new ObjectOutputStream(bytes)) {
+			stream.writeObject(value);
+		} catch (IOException exception) {
+			throw new EventCodecException(exception.getLocalizedMessage(), exception);
+		}
+		final byte[] array = bytes.toByteArray();
+		writeInt(array.length);
+		ensureCapacity(array.length);
+		this.buffer.put(array);
+	}
+
+	/** Tags of the types of the objects.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.11
+	 */
+	static final class ObjectTag {
+
+		static final int NULL = 0;
+
+		static final int STRING = 1;
+
+		static final int INTEGER = 2;
+
+		static final int LONG = 3;
+
+		static final int DOUBLE = 4;
+
+		static final int FLOAT = 5;
+
+		static final int BOOLEAN = 6;
+
+		static final int SHORT = 7;
+
+		static final int BYTE = 8;
+
+		static final int CHARACTER = 9;
+
+		static final int UUID = 10;
+
+		static final int ADDRESS = 11;
+
+		static final int SPACE_ID = 12;
+
+		static final int EVENT = 13;
+
+		static final int OBJECT_ARRAY = 14;
+
+		static final int SERIALIZABLE = 15;
+
+		private ObjectTag() {
+			//
+		}
+
+	}
+
+}
@@ -0,0 +1,58 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.core;
+
+/** Priority of the delivery of an event.
+ *
+ * <p>The run-time environment delivers the events with a higher priority before the waiting events
+ * with a lower priority. The priority does not change the order of the events with the same priority.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ * @see io.sarl.lang.annotation.Prioritized
+ */
+public enum EventPriority {
+
+	/** The event is delivered after the waiting events with a higher priority, e.g. background data.
+	 */
+	LOW,
+
+	/** Default priority of the events.
+	 */
+	NORMAL,
+
+	/** The event is delivered before the waiting events with a lower priority, e.g. control events.
+	 */
+	HIGH;
+
+	/** Replies the default priority.
+	 *
+	 * @return the default priority.
+	 */
+	public static EventPriority getDefault() {
+		return NORMAL;
+	}
+
+}
@@ -21,6 +21,9 @@
 
 package io.sarl.lang.core;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.xtext.xbase.lib.Pure;
@@ -162,6 +165,53 @@ public final class SREutils {
 		return container.getSkill(type);
 	}
 
+	/** Replies the skill that is attached to the given container for the given capacity, without
+	 * creating it if it is not yet attached.
+	 *
+	 * <p>The skills that are provided by the dynamic skill provider of the container are created on
+	 * their first use. This function could be used for inspecting a container without forcing the
+	 * creation of these skills.
+	 *
+	 * @param <S> the type of the capacity.
+	 * @param container the container.
+	 * @param type the type of the capacity.
+	 * @return the skill, or {@code null} if no skill is attached for the capacity.
+	 * @since 0.11
+	 */
+	@Pure
+	public static <S extends Capacity> S getInternalSkillIfPresent(AbstractSkillContainer container, Class<S> type) {
+		final AtomicSkillReference reference = container.$getSkillRepository().get(type);
+		if (reference != null) {
+			final Skill skill = reference.get();
+			if (type.isInstance(skill)) {
+				return type.cast(skill);
+			}
+		}
+		return null;
+	}
+
+	/** Replies the capacities for which a skill is attached to the given container but
+	 * was never used by the container.
+	 *
+	 * <p>A skill is used when the container has invoked one of the functions of the capacity.
+	 * The skills that are created on demand by the dynamic skill provider are always used.
+	 *
+	 * @param container the container.
+	 * @return the capacities of the unused skills.
+	 * @since 0.11
+	 */
+	@Pure
+	public static List<Class<? extends Capacity>> getUnusedSkillCapacities(AbstractSkillContainer container) {
+		final List<Class<? extends Capacity>> unused = new ArrayList<>();
+		for (final Entry<Class<? extends Capacity>, AtomicSkillReference> entry : container.$getSkillRepository().entrySet()) {
+			final AtomicSkillReference reference = entry.getValue();
+			if (!reference.isUsed() && reference.get() != null) {
+				unused.add(entry.getKey());
+			}
+		}
+		return unused;
+	}
+
 	/** Replies the skill repository of the given container.
 	 *
 	 * <p>The replied repository is not protected against asynchronous accesses.
@@ -48,6 +48,8 @@ public class Messages extends NLS {
 	public static String SARLBuilderConfigurationBlock_4;
 	public static String SARLBuilderConfigurationBlock_5;
 	public static String SARLBuilderConfigurationBlock_6;
+	public static String SARLBuilderConfigurationBlock_7;
+	public static String SARLBuilderConfigurationBlock_8;
 	public static String SARLValidatorConfigurationBlock_0;
 	public static String SARLValidatorConfigurationBlock_2;
 	public static String SARLValidatorConfigurationBlock_3;
@@ -21,8 +21,10 @@
 
 package io.sarl.lang.ui.preferences;
 
+import static io.sarl.lang.ui.preferences.SARLBuilderPreferenceAccess.PREF_GENERATE_BEHAVIOR_UNIT_HANDLERS;
 import static io.sarl.lang.ui.preferences.SARLBuilderPreferenceAccess.PREF_GENERATE_CLONE_FUNCTIONS;
 import static io.sarl.lang.ui.preferences.SARLBuilderPreferenceAccess.PREF_GENERATE_EQUALITY_TEST_FUNCTIONS;
+import static io.sarl.lang.ui.preferences.SARLBuilderPreferenceAccess.PREF_GENERATE_EVENT_CODECS;
 import static io.sarl.lang.ui.preferences.SARLBuilderPreferenceAccess.PREF_GENERATE_INLINE;
 import static io.sarl.lang.ui.preferences.SARLBuilderPreferenceAccess.PREF_GENERATE_PURE;
 import static io.sarl.lang.ui.preferences.SARLBuilderPreferenceAccess.PREF_GENERATE_SERIAL_NUMBER_FIELDS;
@@ -88,6 +90,12 @@ public class SARLBuilderConfigurationBlock extends XbaseBuilderConfigurationBloc
 		addCheckBox(composite, Messages.SARLBuilderConfigurationBlock_6,
 				PREF_GENERATE_SERIAL_NUMBER_FIELDS, BOOLEAN_VALUES, 0);
 
+		addCheckBox(composite, Messages.SARLBuilderConfigurationBlock_7,
+				PREF_GENERATE_BEHAVIOR_UNIT_HANDLERS, BOOLEAN_VALUES, 0);
+
+		addCheckBox(composite, Messages.SARLBuilderConfigurationBlock_8,
+				PREF_GENERATE_EVENT_CODECS, BOOLEAN_VALUES, 0);
+
 		this.generateInlineButton.addSelectionListener(new SelectionAdapter() {
 			@SuppressWarnings("synthetic-access")
 			@Override
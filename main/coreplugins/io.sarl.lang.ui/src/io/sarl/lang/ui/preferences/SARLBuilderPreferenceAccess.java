@@ -83,6 +83,18 @@ public class SARLBuilderPreferenceAccess {
 	 */
 	public static final String PREF_GENERATE_SERIAL_NUMBER_FIELDS = "io.sarl.builder.generateSerialNumberFields"; //$NON-NLS-1$
 
+	/**
+	 * Preference identifier for generating the non-capturing behavior unit handlers.
+	 * @since 0.11
+	 */
+	public static final String PREF_GENERATE_BEHAVIOR_UNIT_HANDLERS = "io.sarl.builder.generateBehaviorUnitHandlers"; //$NON-NLS-1$
+
+	/**
+	 * Preference identifier for generating the binary codecs of the events.
+	 * @since 0.11
+	 */
+	public static final String PREF_GENERATE_EVENT_CODECS = "io.sarl.builder.generateEventCodecs"; //$NON-NLS-1$
+
 	/** Load the generator configuration from the preferences.
 	 *
 	 * @param generatorConfig the configuration to set up.
@@ -118,6 +130,12 @@ public class SARLBuilderPreferenceAccess {
 			if (preferenceStore.contains(PREF_GENERATE_SERIAL_NUMBER_FIELDS)) {
 				generatorConfig.setGenerateSerialNumberFields(preferenceStore.getBoolean(PREF_GENERATE_SERIAL_NUMBER_FIELDS));
 			}
+			if (preferenceStore.contains(PREF_GENERATE_BEHAVIOR_UNIT_HANDLERS)) {
+				generatorConfig.setGenerateBehaviorUnitHandlers(preferenceStore.getBoolean(PREF_GENERATE_BEHAVIOR_UNIT_HANDLERS));
+			}
+			if (preferenceStore.contains(PREF_GENERATE_EVENT_CODECS)) {
+				generatorConfig.setGenerateEventCodecs(preferenceStore.getBoolean(PREF_GENERATE_EVENT_CODECS));
+			}
 		}
 	}
 
@@ -141,6 +159,8 @@ public class SARLBuilderPreferenceAccess {
 			store.setDefault(PREF_GENERATE_TOSTRING_FUNCTIONS, GeneratorConfig2.DEFAULT_GENERATE_TOSTRING_FUNCTION);
 			store.setDefault(PREF_GENERATE_CLONE_FUNCTIONS, GeneratorConfig2.DEFAULT_GENERATE_CLONE_FUNCTION);
 			store.setDefault(PREF_GENERATE_SERIAL_NUMBER_FIELDS, GeneratorConfig2.DEFAULT_GENERATE_SERIAL_NUMBER_FIELD);
+			store.setDefault(PREF_GENERATE_BEHAVIOR_UNIT_HANDLERS, GeneratorConfig2.DEFAULT_GENERATE_BEHAVIOR_UNIT_HANDLERS);
+			store.setDefault(PREF_GENERATE_EVENT_CODECS, GeneratorConfig2.DEFAULT_GENERATE_EVENT_CODECS);
 		}
 
 	}
@@ -78,6 +78,18 @@ public class GeneratorConfig2 {
 	 */
 	public static final boolean DEFAULT_GENERATE_CLONE_FUNCTION = true;
 
+	/** Default value for the generation flag of the behavior unit handlers.
+	 *
+	 * @since 0.11
+	 */
+	public static final boolean DEFAULT_GENERATE_BEHAVIOR_UNIT_HANDLERS = false;
+
+	/** Default value for the generation flag of the event codecs.
+	 *
+	 * @since 0.11
+	 */
+	public static final boolean DEFAULT_GENERATE_EVENT_CODECS = false;
+
 	/**
 	 * Whether <code>@Inline</code> shall be generated.
 	 */
@@ -118,6 +130,18 @@ public class GeneratorConfig2 {
 	 */
 	private boolean generateCloneFunction = DEFAULT_GENERATE_CLONE_FUNCTION;
 
+	/**
+	 * Whether the behavior units are given to the run-time environment as non-capturing handlers.
+	 * @since 0.11
+	 */
+	private boolean generateBehaviorUnitHandlers = DEFAULT_GENERATE_BEHAVIOR_UNIT_HANDLERS;
+
+	/**
+	 * Whether the binary codec functions are generated into the events.
+	 * @since 0.11
+	 */
+	private boolean generateEventCodecs = DEFAULT_GENERATE_EVENT_CODECS;
+
 	/**
 	 * Name of the folder in which the generated test source code is written.
 	 * @since 0.8
@@ -232,6 +256,46 @@ public class GeneratorConfig2 {
 		this.generateCloneFunction = generateFunctions;
 	}
 
+	/** Replies if the behavior units shall be given to the run-time environment as non-capturing handlers
+	 * instead of capturing lambda expressions.
+	 *
+	 * @return <code>true</code> if the handlers shall be generated.
+	 * @since 0.11
+	 */
+	@Pure
+	public boolean isGenerateBehaviorUnitHandlers() {
+		return this.generateBehaviorUnitHandlers;
+	}
+
+	/** Set if the behavior units shall be given to the run-time environment as non-capturing handlers
+	 * instead of capturing lambda expressions.
+	 *
+	 * @param generateHandlers <code>true</code> if handlers shall be generated.
+	 * @since 0.11
+	 */
+	public void setGenerateBehaviorUnitHandlers(final boolean generateHandlers) {
+		this.generateBehaviorUnitHandlers = generateHandlers;
+	}
+
+	/** Replies if the binary codec functions shall be generated into the events.
+	 *
+	 * @return <code>true</code> if the codecs shall be generated.
+	 * @since 0.11
+	 */
+	@Pure
+	public boolean isGenerateEventCodecs() {
+		return this.generateEventCodecs;
+	}
+
+	/** Set if the binary codec functions shall be generated into the events.
+	 *
+	 * @param generateCodecs <code>true</code> if the codecs shall be generated.
+	 * @since 0.11
+	 */
+	public void setGenerateEventCodecs(final boolean generateCodecs) {
+		this.generateEventCodecs = generateCodecs;
+	}
+
 	/** Replies if the serial number field shall be generated.
 	 *
 	 * @return <code>true</code> if the functions shall be generated.
@@ -81,6 +81,7 @@ import org.eclipse.xtext.common.types.JvmAnnotationReference;
 import org.eclipse.xtext.common.types.JvmAnnotationTarget;
 import org.eclipse.xtext.common.types.JvmAnnotationType;
 import org.eclipse.xtext.common.types.JvmAnnotationValue;
+import org.eclipse.xtext.common.types.JvmArrayType;
 import org.eclipse.xtext.common.types.JvmConstructor;
 import org.eclipse.xtext.common.types.JvmDeclaredType;
 import org.eclipse.xtext.common.types.JvmEnumerationType;
@@ -94,6 +95,7 @@ import org.eclipse.xtext.common.types.JvmIntAnnotationValue;
 import org.eclipse.xtext.common.types.JvmMember;
 import org.eclipse.xtext.common.types.JvmOperation;
 import org.eclipse.xtext.common.types.JvmParameterizedTypeReference;
+import org.eclipse.xtext.common.types.JvmStringAnnotationValue;
 import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.common.types.JvmTypeAnnotationValue;
 import org.eclipse.xtext.common.types.JvmTypeParameter;
@@ -101,6 +103,7 @@ import org.eclipse.xtext.common.types.JvmTypeReference;
 import org.eclipse.xtext.common.types.JvmUnknownTypeReference;
 import org.eclipse.xtext.common.types.JvmUpperBound;
 import org.eclipse.xtext.common.types.JvmVisibility;
+import org.eclipse.xtext.common.types.access.TypeResource;
 import org.eclipse.xtext.common.types.TypesFactory;
 import org.eclipse.xtext.common.types.util.AnnotationLookup;
 import org.eclipse.xtext.common.types.util.TypeReferences;
@@ -141,6 +144,7 @@ import io.sarl.lang.annotation.Generated;
 import io.sarl.lang.annotation.ImportedCapacityFeature;
 import io.sarl.lang.annotation.NoEqualityTestFunctionsGeneration;
 import io.sarl.lang.annotation.PerceptGuardEvaluator;
+import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;
 import io.sarl.lang.annotation.SarlElementType;
 import io.sarl.lang.annotation.SarlSourceCode;
 import io.sarl.lang.annotation.SarlSpecification;
@@ -153,8 +157,12 @@ import io.sarl.lang.core.Agent;
 import io.sarl.lang.core.AgentTrait;
 import io.sarl.lang.core.AtomicSkillReference;
 import io.sarl.lang.core.Behavior;
+import io.sarl.lang.core.BehaviorUnitCollector;
 import io.sarl.lang.core.Capacity;
 import io.sarl.lang.core.Event;
+import io.sarl.lang.core.EventCodecRegistry;
+import io.sarl.lang.core.EventInput;
+import io.sarl.lang.core.EventOutput;
 import io.sarl.lang.core.Skill;
 import io.sarl.lang.sarl.SarlAction;
 import io.sarl.lang.sarl.SarlAgent;
@@ -1107,6 +1115,9 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 			// Add the type of SARL Element
 			appendSARLElementType(source, inferredJvmType);
 
+			// Add the index of the event handlers
+			appendEventGuardEvaluatorIndex(context, inferredJvmType);
+
 			// Resolving any name conflict with the generated JVM type
 			this.nameClashResolver.resolveNameClashes(inferredJvmType);
 		} finally {
@@ -1175,6 +1186,9 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 			// Add the type of SARL Element
 			appendSARLElementType(source, inferredJvmType);
 
+			// Add the index of the event handlers
+			appendEventGuardEvaluatorIndex(context, inferredJvmType);
+
 			// Resolving any name conflict with the generated JVM type
 			this.nameClashResolver.resolveNameClashes(inferredJvmType);
 		} finally {
@@ -1237,6 +1251,9 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 			// Add clone functions if the generated type is cloneable
 			appendCloneFunctionIfCloneable(context, source, inferredJvmType);
 
+			// Add the binary codec functions
+			appendEventCodecFunctions(context, source, inferredJvmType);
+
 			// Add serialVersionUID field if the generated type is serializable
 			appendSerialNumberIfSerializable(context, source, inferredJvmType);
 
@@ -1315,6 +1332,9 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 			// Add the type of SARL Element
 			appendSARLElementType(source, inferredJvmType);
 
+			// Add the index of the event handlers
+			appendEventGuardEvaluatorIndex(context, inferredJvmType);
+
 			// Resolving any name conflict with the generated JVM type
 			this.nameClashResolver.resolveNameClashes(inferredJvmType);
 		} finally {
@@ -1979,14 +1999,11 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 			final Collection<Procedure1<? super ITreeAppendable>> evaluators = context.getGuardEvalationCodeFor(source);
 			assert evaluators != null;
 
+			final boolean generateHandler = context.getGeneratorConfig2().isGenerateBehaviorUnitHandlers();
+
 			if (isTrueGuard) {
 				evaluators.add(it -> {
-					it.append(RUNNABLE_COLLECTION);
-					it.append(".add(() -> "); //$NON-NLS-1$
-					it.append(bodyMethodName);
-					it.append("("); //$NON-NLS-1$
-					it.append(this.grammarKeywordAccess.getOccurrenceKeyword());
-					it.append("));"); //$NON-NLS-1$
+					appendBehaviorUnitRegistration(it, container, bodyMethodName, generateHandler);
 				});
 			} else {
 				assert guard != null;
@@ -2045,12 +2062,7 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 					it.append(")) {"); //$NON-NLS-1$
 					it.increaseIndentation();
 					it.newLine();
-					it.append(RUNNABLE_COLLECTION);
-					it.append(".add(() -> "); //$NON-NLS-1$
-					it.append(bodyMethodName);
-					it.append("("); //$NON-NLS-1$
-					it.append(this.grammarKeywordAccess.getOccurrenceKeyword());
-					it.append("));"); //$NON-NLS-1$
+					appendBehaviorUnitRegistration(it, container, bodyMethodName, generateHandler);
 					it.decreaseIndentation();
 					it.newLine();
 					it.append("}"); //$NON-NLS-1$
@@ -2064,6 +2076,44 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 		}
 	}
 
+	/** Append the statement that gives a behavior unit to the run-time environment from a guard evaluator.
+	 *
+	 * <p>By default, the body of the behavior unit is wrapped into a lambda expression that captures the
+	 * event occurrence, i.e. one {@code Runnable} is allocated for each event and each behavior unit.
+	 * When the generation of the behavior unit handlers is enabled, a method reference to the body function
+	 * is given to {@link BehaviorUnitCollector#collect(Collection, Object, Object, io.sarl.lang.core.BehaviorUnitHandler)}.
+	 * Because this method reference does not capture any variable, its instance is created once by the JVM,
+	 * and the run-time environment may store the receiver and the occurrence without allocating a wrapper.
+	 *
+	 * @param it the receiver of the generated code.
+	 * @param container the type that contains the body function.
+	 * @param bodyMethodName the name of the body function.
+	 * @param generateHandler indicates if the non-capturing handler should be generated.
+	 * @since 0.11
+	 */
+	protected void appendBehaviorUnitRegistration(ITreeAppendable it, JvmGenericType container, String bodyMethodName,
+			boolean generateHandler) {
+		if (generateHandler) {
+			it.append(BehaviorUnitCollector.class);
+			it.append(".collect("); //$NON-NLS-1$
+			it.append(RUNNABLE_COLLECTION);
+			it.append(", this, "); //$NON-NLS-1$
+			it.append(this.grammarKeywordAccess.getOccurrenceKeyword());
+			it.append(", "); //$NON-NLS-1$
+			it.append(container);
+			it.append("::"); //$NON-NLS-1$
+			it.append(bodyMethodName);
+			it.append(");"); //$NON-NLS-1$
+		} else {
+			it.append(RUNNABLE_COLLECTION);
+			it.append(".add(() -> "); //$NON-NLS-1$
+			it.append(bodyMethodName);
+			it.append("("); //$NON-NLS-1$
+			it.append(this.grammarKeywordAccess.getOccurrenceKeyword());
+			it.append("));"); //$NON-NLS-1$
+		}
+	}
+
 	/** Transform the uses of SARL capacities.
 	 *
 	 * <p>Resolving the calls to the capacities' functions is done in {@link SARLReentrantTypeResolver}.
@@ -2485,6 +2535,51 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 		}
 	}
 
+	/** Append the index of the guard evaluators that are declared into the given type.
+	 *
+	 * <p>The index is the annotation {@link PerceptGuardEvaluatorIndex} that is listing the handled
+	 * event types and the names of the corresponding guard evaluators. It enables the run-time environment
+	 * to resolve the event handlers once per type, e.g. into method handles, without exploring the declared
+	 * functions of the type.
+	 *
+	 * @param context the generation context.
+	 * @param container the container type.
+	 * @since 0.11
+	 */
+	protected void appendEventGuardEvaluatorIndex(GenerationContext context, JvmGenericType container) {
+		final Collection<Pair<SarlBehaviorUnit, Collection<Procedure1<? super ITreeAppendable>>>> allEvaluators
+				= context.getGuardEvaluationCodes();
+		if (allEvaluators == null || allEvaluators.isEmpty()) {
+			return;
+		}
+		try {
+			final JvmAnnotationReference annotation = this._annotationTypesBuilder.annotationRef(
+					PerceptGuardEvaluatorIndex.class);
+			if (annotation == null) {
+				return;
+			}
+			final JvmTypeAnnotationValue events = this.typesFactory.createJvmTypeAnnotationValue();
+			final JvmStringAnnotationValue guards = this.typesFactory.createJvmStringAnnotationValue();
+			for (final JvmOperation operation : ((JvmAnnotationType) annotation.getAnnotation()).getDeclaredOperations()) {
+				if ("events".equals(operation.getSimpleName())) { //$NON-NLS-1$
+					events.setOperation(operation);
+				} else if ("guards".equals(operation.getSimpleName())) { //$NON-NLS-1$
+					guards.setOperation(operation);
+				}
+			}
+			for (final Pair<SarlBehaviorUnit, Collection<Procedure1<? super ITreeAppendable>>> evaluators : allEvaluators) {
+				final JvmParameterizedTypeReference eventType = evaluators.getKey().getName();
+				events.getValues().add(this._typeReferenceBuilder.typeRef(eventType.getType()));
+				guards.getValues().add(Utils.createNameForHiddenGuardGeneralEvaluatorMethod(eventType.getSimpleName()));
+			}
+			annotation.getExplicitValues().add(events);
+			annotation.getExplicitValues().add(guards);
+			container.getAnnotations().add(annotation);
+		} catch (IllegalArgumentException exception) {
+			// Ignore
+		}
+	}
+
 	/** Append the guard evaluators.
 	 *
 	 * @param container the container type.
@@ -2739,6 +2834,199 @@ public class SARLJvmModelInferrer extends XtendJvmModelInferrer {
 		}
 	}
 
+	/** Create the binary codec functions of an event.
+	 *
+	 * <p>The codec is composed by the function {@code writeFields(EventOutput)}, which writes the fields
+	 * of the event one by one, and by a protected constructor with an {@link EventInput} parameter, which reads
+	 * the fields in the same order. Both start with a schema identifier that is computed from the names and
+	 * the types of the fields. They are used by the {@link EventCodecRegistry}.
+	 *
+	 * <p>The fields that are final and initialized in their declarations are not encoded.
+	 * The functions are not generated if the super type is a binary type that has no codec.
+	 *
+	 * @param context the current generation context.
+	 * @param source the source object.
+	 * @param target the inferred JVM object.
+	 * @since 0.11
+	 */
+	protected void appendEventCodecFunctions(GenerationContext context, SarlEvent source, JvmGenericType target) {
+		if (!context.getGeneratorConfig2().isGenerateEventCodecs()) {
+			return;
+		}
+		final JvmTypeReference superType = target.getExtendedClass();
+		if (superType == null || !isEventCodecSupportedBy(superType.getType())) {
+			return;
+		}
+
+		final Set<String> initializedValues = new TreeSet<>();
+		for (final XtendMember member : source.getMembers()) {
+			if (member instanceof XtendField) {
+				final XtendField field = (XtendField) member;
+				if (field.isFinal() && field.getInitialValue() != null) {
+					initializedValues.add(field.getName());
+				}
+			}
+		}
+		final List<JvmField> encodedFields = new ArrayList<>();
+		final StringBuilder schemaBuilder = new StringBuilder();
+		for (final JvmField field : target.getDeclaredFields()) {
+			if (!field.isStatic() && !field.isTransient() && !initializedValues.contains(field.getSimpleName())) {
+				encodedFields.add(field);
+				schemaBuilder.append(field.getSimpleName()).append(':')
+					.append(field.getType().getIdentifier()).append(';');
+			}
+		}
+		final int schema = schemaBuilder.toString().hashCode();
+
+		final JvmConstructor constructor = this.typesFactory.createJvmConstructor();
+		constructor.setSimpleName(target.getSimpleName());
+		constructor.setVisibility(JvmVisibility.PROTECTED);
+		final JvmFormalParameter inputParam = this.typesFactory.createJvmFormalParameter();
+		inputParam.setName("input"); //$NON-NLS-1$
+		inputParam.setParameterType(this._typeReferenceBuilder.typeRef(EventInput.class));
+		constructor.getParameters().add(inputParam);
+		this.typeBuilder.setDocumentation(constructor, MessageFormat.format(Messages.SARLJvmModelInferrer_14,
+				target.getSimpleName()));
+		setBody(constructor, it -> {
+			it.append("super(input);"); //$NON-NLS-1$
+			it.newLine();
+			it.append("input.readSchema(" + schema + ", "); //$NON-NLS-1$ //$NON-NLS-2$
+			it.append(target);
+			it.append(".class);"); //$NON-NLS-1$
+			for (final JvmField field : encodedFields) {
+				it.newLine();
+				it.append("this." + field.getSimpleName() + " = "); //$NON-NLS-1$ //$NON-NLS-2$
+				final JvmTypeReference type = field.getType();
+				final String function = getEventCodecFunctionName(type);
+				if (function == null) {
+					if (!Object.class.getName().equals(type.getIdentifier())) {
+						it.append("("); //$NON-NLS-1$
+						appendRawType(it, type.getType());
+						it.append(") "); //$NON-NLS-1$
+					}
+					it.append("input.read"); //$NON-NLS-1$
+					it.append(isEventType(type) ? "Event" : "Object"); //$NON-NLS-1$ //$NON-NLS-2$
+				} else {
+					it.append("input.read" + function); //$NON-NLS-1$
+				}
+				it.append("();"); //$NON-NLS-1$
+			}
+		});
+		appendGeneratedAnnotation(constructor, context);
+		target.getMembers().add(constructor);
+
+		final JvmTypeReference voidType = this._typeReferenceBuilder.typeRef(Void.TYPE);
+		final JvmOperation op = this.typeBuilder.toMethod(
+				source,
+				EventCodecRegistry.WRITE_FIELDS_FUNCTION_NAME,
+				voidType, it2 -> {
+				it2.setVisibility(JvmVisibility.PROTECTED);
+				this.typeBuilder.setDocumentation(it2,
+						MessageFormat.format(Messages.SARLJvmModelInferrer_15, target.getSimpleName()));
+				final JvmFormalParameter param = this.typesFactory.createJvmFormalParameter();
+				param.setName("output"); //$NON-NLS-1$
+				param.setParameterType(this._typeReferenceBuilder.typeRef(EventOutput.class));
+				it2.getParameters().add(param);
+				setBody(it2, it3 -> {
+					it3.append("super." + EventCodecRegistry.WRITE_FIELDS_FUNCTION_NAME + "(output);"); //$NON-NLS-1$ //$NON-NLS-2$
+					it3.newLine();
+					it3.append("output.writeSchema(" + schema + ");"); //$NON-NLS-1$ //$NON-NLS-2$
+					for (final JvmField field : encodedFields) {
+						it3.newLine();
+						final JvmTypeReference type = field.getType();
+						String function = getEventCodecFunctionName(type);
+						if (function == null) {
+							function = isEventType(type) ? "Event" : "Object"; //$NON-NLS-1$ //$NON-NLS-2$
+						}
+						it3.append("output.write" + function + "(this." //$NON-NLS-1$ //$NON-NLS-2$
+								+ field.getSimpleName() + ");"); //$NON-NLS-1$
+					}
+				});
+			});
+		if (op != null) {
+			appendGeneratedAnnotation(op, context);
+			target.getMembers().add(op);
+		}
+	}
+
+	/** Replies if the given event type provides the binary codec functions, or will provide them
+	 * because it is generated from a SARL source.
+	 *
+	 * @param type the type to test.
+	 * @return {@code true} if the codec functions are provided by the type.
+	 */
+	private static boolean isEventCodecSupportedBy(JvmType type) {
+		if (!(type instanceof JvmGenericType)) {
+			return false;
+		}
+		if (Event.class.getName().equals(type.getIdentifier())
+				|| !(type.eResource() instanceof TypeResource)) {
+			return true;
+		}
+		for (final JvmConstructor constructor : ((JvmGenericType) type).getDeclaredConstructors()) {
+			if (constructor.getParameters().size() == 1
+					&& EventInput.class.getName().equals(
+							constructor.getParameters().get(0).getParameterType().getIdentifier())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isEventType(JvmTypeReference type) {
+		return this.inheritanceHelper.isSubTypeOf(type, Event.class, SarlEvent.class);
+	}
+
+	/** Replies the suffix of the functions of {@link EventOutput} and {@link EventInput} that are dedicated
+	 * to the given type.
+	 *
+	 * @param type the type of the field.
+	 * @return the suffix of the functions, or {@code null} if the type has no dedicated function.
+	 */
+	private static String getEventCodecFunctionName(JvmTypeReference type) {
+		final String identifier = type.getIdentifier();
+		if (identifier == null) {
+			return null;
+		}
+		switch (identifier) {
+		case "boolean": //$NON-NLS-1$
+			return "Boolean"; //$NON-NLS-1$
+		case "byte": //$NON-NLS-1$
+			return "Byte"; //$NON-NLS-1$
+		case "short": //$NON-NLS-1$
+			return "Short"; //$NON-NLS-1$
+		case "char": //$NON-NLS-1$
+			return "Char"; //$NON-NLS-1$
+		case "int": //$NON-NLS-1$
+			return "Int"; //$NON-NLS-1$
+		case "long": //$NON-NLS-1$
+			return "Long"; //$NON-NLS-1$
+		case "float": //$NON-NLS-1$
+			return "Float"; //$NON-NLS-1$
+		case "double": //$NON-NLS-1$
+			return "Double"; //$NON-NLS-1$
+		case "java.lang.String": //$NON-NLS-1$
+			return "String"; //$NON-NLS-1$
+		case "java.util.UUID": //$NON-NLS-1$
+			return "UUID"; //$NON-NLS-1$
+		case "io.sarl.lang.core.Address": //$NON-NLS-1$
+			return "Address"; //$NON-NLS-1$
+		case "io.sarl.lang.core.SpaceID": //$NON-NLS-1$
+			return "SpaceID"; //$NON-NLS-1$
+		default:
+			return null;
+		}
+	}
+
+	private static void appendRawType(ITreeAppendable it, JvmType type) {
+		if (type instanceof JvmArrayType) {
+			appendRawType(it, ((JvmArrayType) type).getComponentType());
+			it.append("[]"); //$NON-NLS-1$
+		} else {
+			it.append(type);
+		}
+	}
+
 	/** Append the serial number field.
 	 *
 	 * <p>The serial number field is computed from the given context and from the generated fields.
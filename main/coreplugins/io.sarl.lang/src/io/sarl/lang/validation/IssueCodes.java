@@ -225,6 +225,13 @@ public final class IssueCodes {
 	public static final String POTENTIAL_INEFFICIENT_VALUE_CONVERSION =
 			ISSUE_CODE_PREFIX + "potential_inefficient_value_conversion"; //$NON-NLS-1$
 
+	/**
+	 * The {@code @Conflatable} annotation is not used on an event, or it has an improper value.
+	 * @since 0.11
+	 */
+	public static final String INVALID_CONFLATABLE_ANNOTATION =
+			ISSUE_CODE_PREFIX + "invalid_conflatable_annotation"; //$NON-NLS-1$
+
 	private IssueCodes() {
 		//
 	}
@@ -44,6 +44,7 @@ public class Messages extends NLS {
 	public static String SARLValidator_0;
 	public static String SARLValidator_1;
 	public static String SARLValidator_10;
+	public static String SARLValidator_100;
 	public static String SARLValidator_11;
 	public static String SARLValidator_12;
 	public static String SARLValidator_13;
@@ -134,6 +135,7 @@ public class Messages extends NLS {
 	public static String SARLValidator_96;
 	public static String SARLValidator_97;
 	public static String SARLValidator_98;
+	public static String SARLValidator_99;
 	public static String SARLSyntaxErrorMessageProvider_0;
 	public static String SARLSyntaxErrorMessageProvider_1;
 }
@@ -37,6 +37,7 @@ import static io.sarl.lang.validation.IssueCodes.DISCOURAGED_FUNCTION_NAME;
 import static io.sarl.lang.validation.IssueCodes.DISCOURAGED_LOOP_BREAKING_KEYWORD_USE;
 import static io.sarl.lang.validation.IssueCodes.DISCOURAGED_OCCURRENCE_READONLY_USE;
 import static io.sarl.lang.validation.IssueCodes.INVALID_CAPACITY_TYPE;
+import static io.sarl.lang.validation.IssueCodes.INVALID_CONFLATABLE_ANNOTATION;
 import static io.sarl.lang.validation.IssueCodes.INVALID_DEFAULT_SKILL_ANNOTATION;
 import static io.sarl.lang.validation.IssueCodes.INVALID_EXTENDED_TYPE;
 import static io.sarl.lang.validation.IssueCodes.INVALID_FIRING_EVENT_TYPE;
@@ -156,6 +157,7 @@ import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.common.types.JvmConstructor;
 import org.eclipse.xtext.common.types.JvmDeclaredType;
 import org.eclipse.xtext.common.types.JvmExecutable;
+import org.eclipse.xtext.common.types.JvmFeature;
 import org.eclipse.xtext.common.types.JvmField;
 import org.eclipse.xtext.common.types.JvmFormalParameter;
 import org.eclipse.xtext.common.types.JvmGenericType;
@@ -188,14 +190,17 @@ import org.eclipse.xtext.xbase.XConstructorCall;
 import org.eclipse.xtext.xbase.XExpression;
 import org.eclipse.xtext.xbase.XFeatureCall;
 import org.eclipse.xtext.xbase.XForLoopExpression;
+import org.eclipse.xtext.xbase.XListLiteral;
 import org.eclipse.xtext.xbase.XMemberFeatureCall;
 import org.eclipse.xtext.xbase.XPostfixOperation;
+import org.eclipse.xtext.xbase.XStringLiteral;
 import org.eclipse.xtext.xbase.XSynchronizedExpression;
 import org.eclipse.xtext.xbase.XTypeLiteral;
 import org.eclipse.xtext.xbase.XUnaryOperation;
 import org.eclipse.xtext.xbase.XVariableDeclaration;
 import org.eclipse.xtext.xbase.XbasePackage;
 import org.eclipse.xtext.xbase.annotations.xAnnotations.XAnnotation;
+import org.eclipse.xtext.xbase.annotations.xAnnotations.XAnnotationElementValuePair;
 import org.eclipse.xtext.xbase.compiler.GeneratorConfig;
 import org.eclipse.xtext.xbase.lib.CollectionLiterals;
 import org.eclipse.xtext.xbase.lib.Inline;
@@ -213,6 +218,7 @@ import org.eclipse.xtext.xbase.validation.UIStrings;
 import org.eclipse.xtext.xtype.XComputedTypeReference;
 
 import io.sarl.lang.SARLVersion;
+import io.sarl.lang.annotation.Conflatable;
 import io.sarl.lang.annotation.EarlyExit;
 import io.sarl.lang.controlflow.ISarlEarlyExitComputer;
 import io.sarl.lang.core.Agent;
@@ -2859,6 +2865,80 @@ public class SARLValidator extends AbstractSARLValidator {
 		}
 	}
 
+	/** Check the correct usage of the {@link Conflatable} annotation.
+	 *
+	 * @param type the type to check.
+	 * @since 0.11
+	 */
+	@Check
+	public void checkConflatableAnnotation(XtendTypeDeclaration type) {
+		final String annotationId = Conflatable.class.getName();
+		final XAnnotation annotation = IterableExtensions.findFirst(type.getAnnotations(), it -> {
+			return Strings.equal(annotationId, it.getAnnotationType().getIdentifier());
+		});
+		if (annotation != null) {
+			if (!(type instanceof SarlEvent)) {
+				error(MessageFormat.format(Messages.SARLValidator_99, type.getName()),
+						annotation,
+						null,
+						ValidationMessageAcceptor.INSIGNIFICANT_INDEX,
+						INVALID_CONFLATABLE_ANNOTATION);
+				return;
+			}
+			final JvmGenericType inferredType = this.associations.getInferredType((SarlEvent) type);
+			if (inferredType != null) {
+				for (final XStringLiteral key : getConflationKeys(annotation)) {
+					final String name = key.getValue();
+					if (!Strings.isEmpty(name) && !isEventField(inferredType, name)) {
+						error(MessageFormat.format(Messages.SARLValidator_100, name, type.getName()),
+								key,
+								null,
+								ValidationMessageAcceptor.INSIGNIFICANT_INDEX,
+								INVALID_CONFLATABLE_ANNOTATION);
+					}
+				}
+			}
+		}
+	}
+
+	private static List<XStringLiteral> getConflationKeys(XAnnotation annotation) {
+		final List<XExpression> values = new ArrayList<>();
+		if (annotation.getValue() != null) {
+			values.add(annotation.getValue());
+		}
+		for (final XAnnotationElementValuePair pair : annotation.getElementValuePairs()) {
+			if (pair.getElement() != null && Strings.equal("key", pair.getElement().getSimpleName())) { //$NON-NLS-1$
+				values.add(pair.getValue());
+			}
+		}
+		final List<XStringLiteral> keys = new ArrayList<>();
+		for (final XExpression value : values) {
+			if (value instanceof XListLiteral) {
+				for (final XExpression element : ((XListLiteral) value).getElements()) {
+					if (element instanceof XStringLiteral) {
+						keys.add((XStringLiteral) element);
+					}
+				}
+			} else if (value instanceof XStringLiteral) {
+				keys.add((XStringLiteral) value);
+			}
+		}
+		return keys;
+	}
+
+	private static boolean isEventField(JvmGenericType type, String name) {
+		// The source of the event is a private field of Event that is explicitly supported by the SRE.
+		if (Strings.equal("source", name)) { //$NON-NLS-1$
+			return true;
+		}
+		for (final JvmFeature feature : type.getAllFeatures()) {
+			if (feature instanceof JvmField && Strings.equal(name, feature.getSimpleName())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public void checkAnnotationTarget(XAnnotation annotation) {
 		super.checkAnnotationTarget(annotation);
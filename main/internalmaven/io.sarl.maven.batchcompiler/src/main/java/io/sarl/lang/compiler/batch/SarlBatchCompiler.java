@@ -1112,6 +1112,44 @@ public class SarlBatchCompiler {
 		getGeneratorConfig2().setGenerateCloneFunctions(generateFunctions);
 	}
 
+	/** Replies if the behavior units shall be given to the run-time environment as non-capturing handlers.
+	 *
+	 * @return <code>true</code> if the handlers shall be generated.
+	 * @since 0.11
+	 */
+	@Pure
+	public boolean isGenerateBehaviorUnitHandlers() {
+		return getGeneratorConfig2().isGenerateBehaviorUnitHandlers();
+	}
+
+	/** Set if the behavior units shall be given to the run-time environment as non-capturing handlers.
+	 *
+	 * @param generateHandlers <code>true</code> if the handlers shall be generated.
+	 * @since 0.11
+	 */
+	public void setGenerateBehaviorUnitHandlers(final boolean generateHandlers) {
+		getGeneratorConfig2().setGenerateBehaviorUnitHandlers(generateHandlers);
+	}
+
+	/** Replies if the binary codec functions shall be generated into the events.
+	 *
+	 * @return <code>true</code> if the codecs shall be generated.
+	 * @since 0.11
+	 */
+	@Pure
+	public boolean isGenerateEventCodecs() {
+		return getGeneratorConfig2().isGenerateEventCodecs();
+	}
+
+	/** Set if the binary codec functions shall be generated into the events.
+	 *
+	 * @param generateCodecs <code>true</code> if the codecs shall be generated.
+	 * @since 0.11
+	 */
+	public void setGenerateEventCodecs(final boolean generateCodecs) {
+		getGeneratorConfig2().setGenerateEventCodecs(generateCodecs);
+	}
+
 	/** Replies if the serial number fields shall be generated.
 	 *
 	 * @return <code>true</code> if the fields shall be generated.
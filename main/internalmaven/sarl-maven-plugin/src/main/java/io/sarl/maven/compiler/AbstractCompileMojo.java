@@ -129,6 +129,18 @@ public abstract class AbstractCompileMojo extends AbstractSarlBatchCompilerMojo
 	@Parameter(defaultValue = "true", required = false)
 	private boolean generateSerialNumberFields;
 
+	/** Indicates if the behavior units must be given to the run-time environment as non-capturing handlers.
+	 * @since 0.11
+	 */
+	@Parameter(defaultValue = "false", required = false)
+	private boolean generateBehaviorUnitHandlers;
+
+	/** Indicates if the binary codec functions must be generated into the events.
+	 * @since 0.11
+	 */
+	@Parameter(defaultValue = "false", required = false)
+	private boolean generateEventCodecs;
+
 	/** Indicates if the classpath is provided by Tycho.
 	 */
 	@Parameter(defaultValue = "false", required = false)
@@ -254,6 +266,16 @@ public abstract class AbstractCompileMojo extends AbstractSarlBatchCompilerMojo
 		return this.generateSerialNumberFields;
 	}
 
+	@Override
+	protected boolean getGenerateBehaviorUnitHandlers() {
+		return this.generateBehaviorUnitHandlers;
+	}
+
+	@Override
+	protected boolean getGenerateEventCodecs() {
+		return this.generateEventCodecs;
+	}
+
 	@Override
 	protected boolean getGeneratePures() {
 		return this.generatePures;
@@ -283,6 +305,8 @@ public abstract class AbstractCompileMojo extends AbstractSarlBatchCompilerMojo
 		buffer.append("generateToStringFunctions = ").append(this.generateToStringFunctions).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
 		buffer.append("generateCloneFunctions = ").append(this.generateCloneFunctions).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
 		buffer.append("generateSerialNumberFields = ").append(this.generateSerialNumberFields).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
+		buffer.append("generateBehaviorUnitHandlers = ").append(this.generateBehaviorUnitHandlers).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
+		buffer.append("generateEventCodecs = ").append(this.generateEventCodecs).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
 	}
 
 	@Override
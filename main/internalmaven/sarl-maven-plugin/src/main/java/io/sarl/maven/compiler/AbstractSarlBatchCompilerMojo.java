@@ -189,6 +189,20 @@ public abstract class AbstractSarlBatchCompilerMojo extends AbstractSarlMojo {
 	 */
 	protected abstract boolean getGenerateSerialNumberFields();
 
+	/** Replies if the behavior units must be given to the run-time environment as non-capturing handlers.
+	 *
+	 * @return <code>true</code> for generating the handlers.
+	 * @since 0.11
+	 */
+	protected abstract boolean getGenerateBehaviorUnitHandlers();
+
+	/** Replies if the binary codec functions must be generated into the events.
+	 *
+	 * @return <code>true</code> for generating the codecs.
+	 * @since 0.11
+	 */
+	protected abstract boolean getGenerateEventCodecs();
+
 	/** Replies the list of the extra-language generators' identifiers that should be enabled.
 	 *
 	 * @return the list of extra-language generators' identifiers.
@@ -279,6 +293,8 @@ public abstract class AbstractSarlBatchCompilerMojo extends AbstractSarlMojo {
 		compiler.setGenerateToStringFunctions(getGenerateToStringFunctions());
 		compiler.setGenerateCloneFunctions(getGenerateCloneFunctions());
 		compiler.setGenerateSerialNumberFields(getGenerateSerialNumberFields());
+		compiler.setGenerateBehaviorUnitHandlers(getGenerateBehaviorUnitHandlers());
+		compiler.setGenerateEventCodecs(getGenerateEventCodecs());
 
 		final StringBuilder builder = new StringBuilder();
 		for (final String identifier : getExtraGenerators()) {
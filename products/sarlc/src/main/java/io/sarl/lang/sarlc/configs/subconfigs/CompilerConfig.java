@@ -104,6 +104,21 @@ public class CompilerConfig {
 	 */
 	public static final String GENERATE_CLONE_NAME = PREFIX + ".generateClone"; //$NON-NLS-1$
 
+	/**
+	 * Name of the property that indicates if the behavior units are given to the run-time environment
+	 * as non-capturing handlers.
+	 *
+	 * @since 0.11
+	 */
+	public static final String GENERATE_BEHAVIOR_UNIT_HANDLERS_NAME = PREFIX + ".generateBehaviorUnitHandlers"; //$NON-NLS-1$
+
+	/**
+	 * Name of the property that indicates if the binary codec functions are generated into the events.
+	 *
+	 * @since 0.11
+	 */
+	public static final String GENERATE_EVENT_CODECS_NAME = PREFIX + ".generateEventCodecs"; //$NON-NLS-1$
+
 	/**
 	 * Name of the property that indicates if serial ids are generated.
 	 */
@@ -139,6 +154,10 @@ public class CompilerConfig {
 
 	private boolean generateSerialIds = GeneratorConfig2.DEFAULT_GENERATE_SERIAL_NUMBER_FIELD;
 
+	private boolean generateBehaviorUnitHandlers = GeneratorConfig2.DEFAULT_GENERATE_BEHAVIOR_UNIT_HANDLERS;
+
+	private boolean generateEventCodecs = GeneratorConfig2.DEFAULT_GENERATE_EVENT_CODECS;
+
 	private boolean compressInlineExpressions = GeneratorConfig2.DEFAULT_USE_EXPRESSION_INTERPRETER_FOR_INLINE_ANNOTATION;
 
 	/** Replies if the inline expressions should be compressed on the fly.
@@ -192,6 +211,45 @@ public class CompilerConfig {
 		this.generateClone = enable;
 	}
 
+	/** Replies if the behavior units are given to the run-time environment as non-capturing handlers.
+	 *
+	 * @return {@code true} if the handlers are generated.
+	 * @since 0.11
+	 */
+	public boolean getGenerateBehaviorUnitHandlers() {
+		return this.generateBehaviorUnitHandlers;
+	}
+
+	/** Change the flag that indicates if the behavior units are given to the run-time environment
+	 * as non-capturing handlers.
+	 *
+	 * @param enable {@code true} if the handlers are generated.
+	 * @since 0.11
+	 */
+	@BQConfigProperty("Enable or disable the generation of the non-capturing behavior unit handlers")
+	public void setGenerateBehaviorUnitHandlers(boolean enable) {
+		this.generateBehaviorUnitHandlers = enable;
+	}
+
+	/** Replies if the binary codec functions are generated into the events.
+	 *
+	 * @return {@code true} if the codecs are generated.
+	 * @since 0.11
+	 */
+	public boolean getGenerateEventCodecs() {
+		return this.generateEventCodecs;
+	}
+
+	/** Change the flag that indicates if the binary codec functions are generated into the events.
+	 *
+	 * @param enable {@code true} if the codecs are generated.
+	 * @since 0.11
+	 */
+	@BQConfigProperty("Enable or disable the generation of the binary event codecs")
+	public void setGenerateEventCodecs(boolean enable) {
+		this.generateEventCodecs = enable;
+	}
+
 	/** Replies if the toString functions are generated.
 	 *
 	 * @return {@code true} if the toString functions are generated.
@@ -24,8 +24,10 @@ package io.sarl.lang.sarlc.modules.configs;
 import static io.bootique.BQCoreModule.extend;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.COMPRESS_INLINE_EXPRESSIONS_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.FILE_ENCODING_NAME;
+import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_BEHAVIOR_UNIT_HANDLERS_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_CLONE_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_EQUALITY_TESTS_NAME;
+import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_EVENT_CODECS_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_INLINES_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_PURES_NAME;
 import static io.sarl.lang.sarlc.configs.subconfigs.CompilerConfig.GENERATE_SERIAL_IDS_NAME;
@@ -84,6 +86,10 @@ public class CompilerConfigModule extends AbstractModule {
 
 	private static final String GENERATESERIALS_OPTION = "generate-serials"; //$NON-NLS-1$
 
+	private static final String GENERATEBEHAVIORUNITHANDLERS_OPTION = "generate-behavior-unit-handlers"; //$NON-NLS-1$
+
+	private static final String GENERATEEVENTCODECS_OPTION = "generate-event-codecs"; //$NON-NLS-1$
+
 	@Override
 	protected void configure() {
 		VariableDecls.extend(binder()).declareVar(FILE_ENCODING_NAME);
@@ -187,6 +193,22 @@ public class CompilerConfigModule extends AbstractModule {
 				.valueOptionalWithDefault(trueFalseValues, Boolean.toString(GeneratorConfig2.DEFAULT_GENERATE_SERIAL_NUMBER_FIELD))
 				.build())
 			.mapConfigPath(GENERATESERIALS_OPTION, GENERATE_SERIAL_IDS_NAME);
+
+		VariableDecls.extend(binder()).declareVar(GENERATE_BEHAVIOR_UNIT_HANDLERS_NAME);
+		extend(binder()).addOption(OptionMetadata.builder(
+				GENERATEBEHAVIORUNITHANDLERS_OPTION,
+				MessageFormat.format(Messages.CompilerConfigModule_14, GeneratorConfig2.DEFAULT_GENERATE_BEHAVIOR_UNIT_HANDLERS))
+				.valueOptionalWithDefault(trueFalseValues, Boolean.toString(GeneratorConfig2.DEFAULT_GENERATE_BEHAVIOR_UNIT_HANDLERS))
+				.build())
+			.mapConfigPath(GENERATEBEHAVIORUNITHANDLERS_OPTION, GENERATE_BEHAVIOR_UNIT_HANDLERS_NAME);
+
+		VariableDecls.extend(binder()).declareVar(GENERATE_EVENT_CODECS_NAME);
+		extend(binder()).addOption(OptionMetadata.builder(
+				GENERATEEVENTCODECS_OPTION,
+				MessageFormat.format(Messages.CompilerConfigModule_15, GeneratorConfig2.DEFAULT_GENERATE_EVENT_CODECS))
+				.valueOptionalWithDefault(trueFalseValues, Boolean.toString(GeneratorConfig2.DEFAULT_GENERATE_EVENT_CODECS))
+				.build())
+			.mapConfigPath(GENERATEEVENTCODECS_OPTION, GENERATE_EVENT_CODECS_NAME);
 	}
 
 	/** Provide a Java batch compiler based on the Bootique configuration.
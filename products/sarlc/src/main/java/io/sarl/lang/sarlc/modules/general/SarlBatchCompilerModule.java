@@ -128,6 +128,8 @@ public class SarlBatchCompilerModule extends AbstractModule {
 		compiler.setGenerateToStringFunctions(compilerConfig.getGenerateToString());
 		compiler.setGenerateCloneFunctions(compilerConfig.getGenerateClone());
 		compiler.setGenerateSerialNumberFields(compilerConfig.getGenerateSerialIds());
+		compiler.setGenerateBehaviorUnitHandlers(compilerConfig.getGenerateBehaviorUnitHandlers());
+		compiler.setGenerateEventCodecs(compilerConfig.getGenerateEventCodecs());
 
 		if (validatorConfig.getAllErrors()) {
 			compiler.setAllWarningSeverities(Severity.ERROR);
@@ -0,0 +1,22 @@
+#!/usr/bin/env sh
+
+MYSELF=`readlink -f "$0"`
+PROGRAMNAME=`basename "$0"`
+
+if test -n "$JAVA_HOME"
+then
+  JAVA="$JAVA_HOME/bin/java"
+else
+  JAVA=`which java`
+fi
+
+JAVA=`readlink -f "$JAVA"`
+
+if test -x "$JAVA"
+then
+  exec $JAVA $SARLLOAD_JVM_OPTS -Dsarlload.programName="$PROGRAMNAME" -cp "${MYSELF}" "{cliToolMainClass}" "$@"
+else
+  echo "Cannot find Java, please set your JAVA_HOME" >&2
+fi
+
+exit 255
@@ -0,0 +1,62 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sarlload;
+
+/** Constants for sarlload.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+public final class Constants {
+
+	/** Default name of the sarlload program.
+	 */
+	public static final String PROGRAM_NAME = "sarlload"; //$NON-NLS-1$
+
+	/** Name of the option for defining the scenario to run, without the {@code -} and the {@code /} prefixes.
+	 */
+	public static final String SCENARIO_OPTION = "scenario"; //$NON-NLS-1$
+
+	/** Name of the option for defining the size of the scenario, without the {@code -} and the {@code /} prefixes.
+	 */
+	public static final String SIZE_OPTION = "size"; //$NON-NLS-1$
+
+	/** Name of the option for defining the duration of the measurement, without the {@code -} and the {@code /} prefixes.
+	 */
+	public static final String DURATION_OPTION = "duration"; //$NON-NLS-1$
+
+	/** Name of the option for defining the duration of the warmup, without the {@code -} and the {@code /} prefixes.
+	 */
+	public static final String WARMUP_OPTION = "warmup"; //$NON-NLS-1$
+
+	/** Name of the option for defining the report file, without the {@code -} and the {@code /} prefixes.
+	 */
+	public static final String REPORT_OPTION = "report"; //$NON-NLS-1$
+
+	private Constants() {
+		//
+	}
+
+}
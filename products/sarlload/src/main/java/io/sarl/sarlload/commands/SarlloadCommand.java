@@ -0,0 +1,194 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sarlload.commands;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.MessageFormat;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Provider;
+
+import io.bootique.cli.Cli;
+import io.bootique.command.CommandOutcome;
+import io.bootique.command.CommandWithMetadata;
+import io.bootique.meta.application.CommandMetadata;
+import org.slf4j.Logger;
+
+import io.sarl.bootstrap.SRE;
+import io.sarl.bootstrap.SREBootstrap;
+import io.sarl.maven.bootiqueapp.BootiqueMain;
+import io.sarl.sarlload.configs.SarlloadConfig;
+import io.sarl.sarlload.configs.Scenario;
+import io.sarl.sarlload.metrics.JvmMetrics;
+import io.sarl.sarlload.metrics.LoadRecorder;
+import io.sarl.sarlload.metrics.LoadReport;
+import io.sarl.sarlload.scenarios.ChurnAgent;
+import io.sarl.sarlload.scenarios.HolonAgent;
+import io.sarl.sarlload.scenarios.PingAgent;
+import io.sarl.sarlload.scenarios.StormAgent;
+import io.sarl.sarlload.scenarios.TimerAgent;
+
+/**
+ * Command for running a scenario of the load generator.
+ *
+ * <p>The SRE is booted through the {@link SREBootstrap} that is found on the class path. The scenario runs
+ * during the warmup period, then its operations are measured during the configured duration. The heap usage
+ * is sampled during the measurement. The report is written in JSON at the end of the run.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+public class SarlloadCommand extends CommandWithMetadata {
+
+	private static final long HEAP_SAMPLING_PERIOD = 100;
+
+	private static final int SHUTDOWN_TIMEOUT = 30000;
+
+	private final Provider<Logger> logger;
+
+	private final Provider<SarlloadConfig> config;
+
+	/** Constructor.
+	 *
+	 * @param logger the logger to be used by the command.
+	 * @param config the sarlload configuration provider.
+	 */
+	public SarlloadCommand(Provider<Logger> logger, Provider<SarlloadConfig> config) {
+		super(CommandMetadata
+				.builder(SarlloadCommand.class)
+				.description(Messages.SarlloadCommand_0));
+		this.logger = logger;
+		this.config = config;
+	}
+
+	@Override
+	public CommandOutcome run(Cli cli) {
+		final Logger logger = this.logger.get();
+		final SarlloadConfig lconfig = this.config.get();
+		final SREBootstrap bootstrap = SRE.getBootstrap();
+		if (bootstrap == null || !bootstrap.isActive()) {
+			return CommandOutcome.failed(BootiqueMain.ERROR_CODE, Messages.SarlloadCommand_1);
+		}
+		try {
+			bootstrap.setVerboseLevel(0);
+		} catch (UnsupportedOperationException exception) {
+			// The SRE does not support the change of its verbose level
+		}
+		final LoadRecorder recorder = new LoadRecorder();
+		try {
+			logger.info(MessageFormat.format(Messages.SarlloadCommand_2,
+					lconfig.getScenario().toJsonString(), Integer.valueOf(lconfig.getSize())));
+			bootstrap.startWithoutAgent();
+			startScenario(bootstrap, lconfig.getScenario(), lconfig.getSize(), recorder);
+
+			Thread.sleep(TimeUnit.SECONDS.toMillis(lconfig.getWarmup()));
+
+			logger.info(MessageFormat.format(Messages.SarlloadCommand_3, Integer.valueOf(lconfig.getDuration())));
+			final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+			final JvmMetrics before = JvmMetrics.snapshot();
+			long peakHeap = before.getHeap().getUsed();
+			recorder.startMeasure();
+			final long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(lconfig.getDuration());
+			while (System.nanoTime() < end) {
+				Thread.sleep(HEAP_SAMPLING_PERIOD);
+				peakHeap = Math.max(peakHeap, memory.getHeapMemoryUsage().getUsed());
+			}
+			recorder.stopMeasure();
+			final JvmMetrics after = JvmMetrics.snapshot();
+			peakHeap = Math.max(peakHeap, after.getHeap().getUsed());
+
+			final LoadReport report = new LoadReport(lconfig, bootstrap.getClass().getName(),
+					recorder, before, after, peakHeap);
+			writeReport(report, lconfig.getReport(), logger);
+		} catch (Throwable exception) {
+			return CommandOutcome.failed(BootiqueMain.ERROR_CODE, exception);
+		} finally {
+			recorder.stop();
+			if (bootstrap.isRunning()) {
+				try {
+					bootstrap.shutdown(true, SHUTDOWN_TIMEOUT);
+				} catch (InterruptedException exception) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+		return CommandOutcome.succeeded();
+	}
+
+	/** Spawn the agents of the given scenario.
+	 *
+	 * @param bootstrap the bootstrap of the SRE.
+	 * @param scenario the scenario to start.
+	 * @param size the size of the scenario.
+	 * @param recorder the recorder that is given to the agents.
+	 * @throws Exception if the agents cannot be spawned.
+	 */
+	protected void startScenario(SREBootstrap bootstrap, Scenario scenario, int size, LoadRecorder recorder) throws Exception {
+		switch (scenario) {
+		case PING_PONG:
+			bootstrap.startAgent(size, PingAgent.class, recorder);
+			break;
+		case BROADCAST_STORM:
+			bootstrap.startAgent(size, StormAgent.class, recorder);
+			break;
+		case HOLARCHY:
+			bootstrap.startAgent(HolonAgent.class, recorder, Integer.valueOf(size));
+			break;
+		case SPAWN_CHURN:
+			bootstrap.startAgent(size, ChurnAgent.class, recorder, Long.valueOf(System.nanoTime()));
+			break;
+		case TIMERS:
+			bootstrap.startAgent(size, TimerAgent.class, recorder);
+			break;
+		default:
+			throw new IllegalArgumentException(scenario.toJsonString());
+		}
+	}
+
+	/** Write the report.
+	 *
+	 * @param report the report to write.
+	 * @param output the file in which the report must be written, or {@code null} for the standard output.
+	 * @param logger the logger to use for notifying the user.
+	 * @throws Exception if the report cannot be written.
+	 */
+	protected void writeReport(LoadReport report, File output, Logger logger) throws Exception {
+		final String json = report.toString();
+		if (output == null) {
+			System.out.println(json);
+		} else {
+			final File parent = output.getAbsoluteFile().getParentFile();
+			if (parent != null) {
+				parent.mkdirs();
+			}
+			Files.write(output.toPath(), json.getBytes(StandardCharsets.UTF_8));
+			logger.info(MessageFormat.format(Messages.SarlloadCommand_4, output));
+		}
+	}
+
+}
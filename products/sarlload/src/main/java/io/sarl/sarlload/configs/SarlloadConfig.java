@@ -0,0 +1,194 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sarlload.configs;
+
+import java.io.File;
+
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import io.bootique.config.ConfigurationFactory;
+
+/**
+ * Configuration for the SARL load generator.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@BQConfig("Configuration of sarlload")
+public class SarlloadConfig {
+
+	/**
+	 * Prefix for the configuration entries of the path modules.
+	 */
+	public static final String PREFIX = "sarlload"; //$NON-NLS-1$
+
+	/**
+	 * Name of the property that contains the scenario to run.
+	 */
+	public static final String SCENARIO_NAME = PREFIX + ".scenario"; //$NON-NLS-1$
+
+	/**
+	 * Name of the property that contains the size of the scenario.
+	 */
+	public static final String SIZE_NAME = PREFIX + ".size"; //$NON-NLS-1$
+
+	/**
+	 * Default value of the property that contains the size of the scenario.
+	 */
+	public static final int SIZE_VALUE = 100;
+
+	/**
+	 * Name of the property that contains the duration of the measurement in seconds.
+	 */
+	public static final String DURATION_NAME = PREFIX + ".duration"; //$NON-NLS-1$
+
+	/**
+	 * Default value of the property that contains the duration of the measurement in seconds.
+	 */
+	public static final int DURATION_VALUE = 30;
+
+	/**
+	 * Name of the property that contains the duration of the warmup in seconds.
+	 */
+	public static final String WARMUP_NAME = PREFIX + ".warmup"; //$NON-NLS-1$
+
+	/**
+	 * Default value of the property that contains the duration of the warmup in seconds.
+	 */
+	public static final int WARMUP_VALUE = 5;
+
+	/**
+	 * Name of the property that contains the file in which the report is written.
+	 */
+	public static final String REPORT_NAME = PREFIX + ".report"; //$NON-NLS-1$
+
+	private Scenario scenario = Scenario.getDefault();
+
+	private int size = SIZE_VALUE;
+
+	private int duration = DURATION_VALUE;
+
+	private int warmup = WARMUP_VALUE;
+
+	private File report;
+
+	/** Replies the configuration for sarlload.
+	 *
+	 * @param configFactory the general configuration factory.
+	 * @return the sarlload configuration.
+	 */
+	public static SarlloadConfig getConfiguration(ConfigurationFactory configFactory) {
+		assert configFactory != null;
+		return configFactory.config(SarlloadConfig.class, PREFIX);
+	}
+
+	/** Replies the scenario to run.
+	 *
+	 * @return the scenario.
+	 */
+	public Scenario getScenario() {
+		return this.scenario;
+	}
+
+	/** Change the scenario to run.
+	 *
+	 * @param scenario the scenario.
+	 */
+	@BQConfigProperty("Scenario to run.")
+	public void setScenario(Scenario scenario) {
+		this.scenario = scenario == null ? Scenario.getDefault() : scenario;
+	}
+
+	/** Replies the size of the scenario. Its meaning depends on the scenario.
+	 *
+	 * @return the size.
+	 */
+	public int getSize() {
+		return this.size;
+	}
+
+	/** Change the size of the scenario. Its meaning depends on the scenario.
+	 *
+	 * @param size the size.
+	 */
+	@BQConfigProperty("Size of the scenario.")
+	public void setSize(int size) {
+		this.size = size <= 0 ? SIZE_VALUE : size;
+	}
+
+	/** Replies the duration of the measurement.
+	 *
+	 * @return the duration in seconds.
+	 */
+	public int getDuration() {
+		return this.duration;
+	}
+
+	/** Change the duration of the measurement.
+	 *
+	 * @param duration the duration in seconds.
+	 */
+	@BQConfigProperty("Duration of the measurement in seconds.")
+	public void setDuration(int duration) {
+		this.duration = duration <= 0 ? DURATION_VALUE : duration;
+	}
+
+	/** Replies the duration of the warmup, i.e. the time during which the scenario runs
+	 * before the measurement starts.
+	 *
+	 * @return the duration in seconds.
+	 */
+	public int getWarmup() {
+		return this.warmup;
+	}
+
+	/** Change the duration of the warmup, i.e. the time during which the scenario runs
+	 * before the measurement starts.
+	 *
+	 * @param warmup the duration in seconds.
+	 */
+	@BQConfigProperty("Duration of the warmup in seconds.")
+	public void setWarmup(int warmup) {
+		this.warmup = warmup < 0 ? WARMUP_VALUE : warmup;
+	}
+
+	/** Replies the file in which the report is written.
+	 *
+	 * @return the file, or {@code null} if the report is written on the standard output.
+	 */
+	public File getReport() {
+		return this.report;
+	}
+
+	/** Change the file in which the report is written.
+	 *
+	 * @param report the file, or {@code null} if the report is written on the standard output.
+	 */
+	@BQConfigProperty("File in which the report is written.")
+	public void setReport(File report) {
+		this.report = report;
+	}
+
+}
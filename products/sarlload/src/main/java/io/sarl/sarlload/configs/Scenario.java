@@ -0,0 +1,114 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sarlload.configs;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.google.common.base.Strings;
+
+/**
+ * Built-in scenarios of the load generator.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+public enum Scenario {
+
+	/** Pairs of agents that exchange a single event back and forth.
+	 * The size is the number of pairs. An operation is a round trip.
+	 */
+	PING_PONG(Messages.Scenario_0),
+
+	/** Agents that broadcast an event to all the other agents as soon as they have received their own.
+	 * The size is the number of agents. An operation is the reception of an event by an agent.
+	 */
+	BROADCAST_STORM(Messages.Scenario_1),
+
+	/** Chain of holons, each of them being member of the inner context of its parent. A token is passed
+	 * from the root holon to the deepest one and back. The size is the depth of the holarchy.
+	 * An operation is a full trip of the token.
+	 */
+	HOLARCHY(Messages.Scenario_2),
+
+	/** Agents that spawn their successor and kill themselves. The size is the number of concurrent
+	 * chains of agents. An operation is the start of an agent.
+	 */
+	SPAWN_CHURN(Messages.Scenario_3),
+
+	/** Agents that run many delayed tasks. The size is the number of agents. An operation is the run of a task,
+	 * and the latency is the delay between the expected and the effective run dates.
+	 */
+	TIMERS(Messages.Scenario_4);
+
+	private final String documentation;
+
+	/** Constructor.
+	 *
+	 * @param documentation the scenario documentation.
+	 */
+	Scenario(String documentation) {
+		this.documentation = documentation;
+	}
+
+	/** Replies the default scenario.
+	 *
+	 * @return the default scenario.
+	 */
+	public static Scenario getDefault() {
+		return PING_PONG;
+	}
+
+	/** Parse the given case insensitive string for obtaining the scenario.
+	 *
+	 * @param name the string to parse.
+	 * @return the scenario.
+	 * @throws NullPointerException when the specified name is null
+	 */
+	@JsonCreator
+	public static Scenario valueOfCaseInsensitive(String name) {
+		if (Strings.isNullOrEmpty(name)) {
+			throw new NullPointerException("Name is null"); //$NON-NLS-1$
+		}
+		return valueOf(name.toUpperCase().replace('-', '_'));
+	}
+
+	/** Replies the Json string representation of this scenario.
+	 *
+	 * @return the Json string representation.
+	 */
+	@JsonValue
+	public String toJsonString() {
+		return name().toLowerCase().replace('_', '-');
+	}
+
+	/** Replies the documentation text associated to this scenario.
+	 *
+	 * @return the documentation text for this scenario.
+	 */
+	public String getDocumentation() {
+		return this.documentation;
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sarlload.metrics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Snapshot of the garbage collection and heap figures of the virtual machine.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+public final class JvmMetrics {
+
+	private final Map<String, long[]> collectors;
+
+	private final MemoryUsage heap;
+
+	private JvmMetrics(Map<String, long[]> collectors, MemoryUsage heap) {
+		this.collectors = collectors;
+		this.heap = heap;
+	}
+
+	/** Take a snapshot of the current figures of the virtual machine.
+	 *
+	 * @return the snapshot.
+	 */
+	public static JvmMetrics snapshot() {
+		final Map<String, long[]> collectors = new TreeMap<>();
+		for (final GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+			collectors.put(bean.getName(), new long[] {
+				Math.max(0, bean.getCollectionCount()),
+				Math.max(0, bean.getCollectionTime()),
+			});
+		}
+		return new JvmMetrics(Collections.unmodifiableMap(collectors),
+				ManagementFactory.getMemoryMXBean().getHeapMemoryUsage());
+	}
+
+	/** Replies the usage of the heap.
+	 *
+	 * @return the heap usage.
+	 */
+	public MemoryUsage getHeap() {
+		return this.heap;
+	}
+
+	/** Replies the names of the garbage collectors.
+	 *
+	 * @return the names.
+	 */
+	public Iterable<String> getCollectorNames() {
+		return this.collectors.keySet();
+	}
+
+	/** Replies the number of collections that were run by the given collector since the start of the virtual machine.
+	 *
+	 * @param name the name of the collector.
+	 * @return the number of collections.
+	 */
+	public long getCollectionCount(String name) {
+		final long[] figures = this.collectors.get(name);
+		return figures == null ? 0 : figures[0];
+	}
+
+	/** Replies the time spent by the given collector since the start of the virtual machine.
+	 *
+	 * @param name the name of the collector.
+	 * @return the time in milliseconds.
+	 */
+	public long getCollectionTime(String name) {
+		final long[] figures = this.collectors.get(name);
+		return figures == null ? 0 : figures[1];
+	}
+
+}
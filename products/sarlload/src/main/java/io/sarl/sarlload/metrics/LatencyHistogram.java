@@ -0,0 +1,152 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sarlload.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe histogram of latencies.
+ *
+ * <p>The values are stored into log-linear buckets: the values lower than 16 have their own buckets, and
+ * each power of two above is split into 16 buckets. The relative error on the reported percentiles
+ * is therefore lower than 6.25%, whatever the magnitude of the values, with a constant memory footprint
+ * and without allocation when a value is recorded.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+	private static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+
+	private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+	private final AtomicLong count = new AtomicLong();
+
+	private final AtomicLong sum = new AtomicLong();
+
+	private final AtomicLong max = new AtomicLong();
+
+	/** Record a value.
+	 *
+	 * @param value the value. Negative values are recorded as zero.
+	 */
+	public void record(long value) {
+		final long positiveValue = Math.max(0, value);
+		this.buckets.incrementAndGet(bucketIndex(positiveValue));
+		this.count.incrementAndGet();
+		this.sum.addAndGet(positiveValue);
+		this.max.accumulateAndGet(positiveValue, Math::max);
+	}
+
+	/** Remove all the recorded values.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; ++i) {
+			this.buckets.set(i, 0);
+		}
+		this.count.set(0);
+		this.sum.set(0);
+		this.max.set(0);
+	}
+
+	/** Replies the number of recorded values.
+	 *
+	 * @return the number of values.
+	 */
+	public long getCount() {
+		return this.count.get();
+	}
+
+	/** Replies the greatest recorded value.
+	 *
+	 * @return the greatest value, or {@code 0} if no value was recorded.
+	 */
+	public long getMax() {
+		return this.max.get();
+	}
+
+	/** Replies the mean of the recorded values.
+	 *
+	 * @return the mean, or {@code 0} if no value was recorded.
+	 */
+	public double getMean() {
+		final long n = this.count.get();
+		if (n <= 0) {
+			return 0.;
+		}
+		return ((double) this.sum.get()) / n;
+	}
+
+	/** Replies the value at the given percentile.
+	 *
+	 * <p>The replied value is the upper bound of the bucket that contains the percentile,
+	 * bounded by the greatest recorded value.
+	 *
+	 * @param percentile the percentile in {@code [0;100]}.
+	 * @return the value, or {@code 0} if no value was recorded.
+	 */
+	public long getPercentile(double percentile) {
+		final long n = this.count.get();
+		if (n <= 0) {
+			return 0;
+		}
+		final long rank = Math.max(1, (long) Math.ceil(Math.min(100., Math.max(0., percentile)) * n / 100.));
+		long cumulated = 0;
+		for (int i = 0; i < BUCKET_COUNT; ++i) {
+			cumulated += this.buckets.get(i);
+			if (cumulated >= rank) {
+				return Math.min(bucketUpperBound(i), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	private static int bucketIndex(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+		final int msb = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		final int shift = msb - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) & SUB_BUCKET_MASK);
+	}
+
+	private static long bucketUpperBound(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		final int shift = index / SUB_BUCKET_COUNT - 1;
+		final long lower = ((long) (SUB_BUCKET_COUNT + (index & SUB_BUCKET_MASK))) << shift;
+		return lower + (1L << shift) - 1;
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sarlload.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Recorder of the operations that are run by the agents of a scenario.
+ *
+ * <p>The recorder is given to the agents as a spawn parameter. The agents notify it of each operation
+ * they run, with the latency of the operation when it is known. The operations are counted only
+ * between the calls to {@link #startMeasure()} and {@link #stopMeasure()}, so that the warmup of
+ * the platform is not included into the figures.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+public class LoadRecorder {
+
+	private final LongAdder operations = new LongAdder();
+
+	private final LatencyHistogram latencies = new LatencyHistogram();
+
+	private volatile boolean running = true;
+
+	private volatile boolean measuring;
+
+	private long measureStart;
+
+	private long measureEnd;
+
+	/** Replies if the agents should continue to generate load.
+	 *
+	 * @return {@code true} if the scenario is running.
+	 */
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	/** Stop the scenario. The agents stop to generate load as soon as possible.
+	 */
+	public void stop() {
+		this.measuring = false;
+		this.running = false;
+	}
+
+	/** Start the measurement. The previously recorded operations are forgotten.
+	 */
+	public synchronized void startMeasure() {
+		this.operations.reset();
+		this.latencies.reset();
+		this.measureStart = System.nanoTime();
+		this.measureEnd = 0;
+		this.measuring = true;
+	}
+
+	/** Stop the measurement.
+	 */
+	public synchronized void stopMeasure() {
+		this.measuring = false;
+		this.measureEnd = System.nanoTime();
+	}
+
+	/** Notify the recorder that an operation was run.
+	 */
+	public void operation() {
+		if (this.measuring) {
+			this.operations.increment();
+		}
+	}
+
+	/** Notify the recorder that an operation was run with the given latency.
+	 *
+	 * @param latency the latency of the operation in nanoseconds.
+	 */
+	public void operation(long latency) {
+		if (this.measuring) {
+			this.operations.increment();
+			this.latencies.record(latency);
+		}
+	}
+
+	/** Replies the number of measured operations.
+	 *
+	 * @return the number of operations.
+	 */
+	public long getOperations() {
+		return this.operations.sum();
+	}
+
+	/** Replies the latencies of the measured operations, in nanoseconds.
+	 *
+	 * @return the latencies.
+	 */
+	public LatencyHistogram getLatencies() {
+		return this.latencies;
+	}
+
+	/** Replies the duration of the measurement.
+	 *
+	 * @return the duration in nanoseconds.
+	 */
+	public synchronized long getMeasureDuration() {
+		final long end = this.measureEnd > 0 ? this.measureEnd : System.nanoTime();
+		return end - this.measureStart;
+	}
+
+	/** Replies the number of measured operations per second.
+	 *
+	 * @return the throughput.
+	 */
+	public double getThroughput() {
+		final long duration = getMeasureDuration();
+		if (duration <= 0) {
+			return 0.;
+		}
+		return getOperations() * 1e9 / duration;
+	}
+
+}
@@ -0,0 +1,160 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sarlload.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.arakhne.afc.vmutil.json.JsonBuffer;
+import org.arakhne.afc.vmutil.json.JsonableObject;
+
+import io.sarl.sarlload.configs.SarlloadConfig;
+
+/**
+ * Machine-readable report of a run of the load generator.
+ *
+ * <p>The latencies are expressed in microseconds, the durations of the garbage collections in milliseconds,
+ * and the heap figures in bytes.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+public class LoadReport implements JsonableObject {
+
+	private static final double NANOS_PER_MICRO = 1000.;
+
+	private static final double NANOS_PER_SECOND = 1e9;
+
+	private final SarlloadConfig config;
+
+	private final String sre;
+
+	private final LoadRecorder recorder;
+
+	private final JvmMetrics before;
+
+	private final JvmMetrics after;
+
+	private final long peakHeap;
+
+	/** Constructor.
+	 *
+	 * @param config the configuration of the run.
+	 * @param sre the name of the SRE that has run the scenario.
+	 * @param recorder the recorder of the operations.
+	 * @param before the virtual machine figures at the start of the measurement.
+	 * @param after the virtual machine figures at the end of the measurement.
+	 * @param peakHeap the greatest heap usage that was observed during the measurement, in bytes.
+	 */
+	public LoadReport(SarlloadConfig config, String sre, LoadRecorder recorder,
+			JvmMetrics before, JvmMetrics after, long peakHeap) {
+		this.config = config;
+		this.sre = sre;
+		this.recorder = recorder;
+		this.before = before;
+		this.after = after;
+		this.peakHeap = peakHeap;
+	}
+
+	@Override
+	public void toJson(JsonBuffer buffer) {
+		buffer.add("scenario", this.config.getScenario().toJsonString()); //$NON-NLS-1$
+		buffer.add("size", this.config.getSize()); //$NON-NLS-1$
+		buffer.add("warmup", this.config.getWarmup()); //$NON-NLS-1$
+		buffer.add("duration", this.config.getDuration()); //$NON-NLS-1$
+		buffer.add("sre", this.sre); //$NON-NLS-1$
+		buffer.add("jvm", getJvm()); //$NON-NLS-1$
+		buffer.add("throughput", getThroughput()); //$NON-NLS-1$
+		buffer.add("latency", getLatency()); //$NON-NLS-1$
+		buffer.add("gc", getGc()); //$NON-NLS-1$
+		buffer.add("heap", getHeap()); //$NON-NLS-1$
+	}
+
+	private static Map<String, Object> getJvm() {
+		final Map<String, Object> jvm = new LinkedHashMap<>();
+		jvm.put("version", System.getProperty("java.version")); //$NON-NLS-1$ //$NON-NLS-2$
+		jvm.put("vendor", System.getProperty("java.vendor")); //$NON-NLS-1$ //$NON-NLS-2$
+		jvm.put("processors", Runtime.getRuntime().availableProcessors()); //$NON-NLS-1$
+		return jvm;
+	}
+
+	private Map<String, Object> getThroughput() {
+		final Map<String, Object> throughput = new LinkedHashMap<>();
+		throughput.put("operations", this.recorder.getOperations()); //$NON-NLS-1$
+		throughput.put("seconds", this.recorder.getMeasureDuration() / NANOS_PER_SECOND); //$NON-NLS-1$
+		throughput.put("operationsPerSecond", this.recorder.getThroughput()); //$NON-NLS-1$
+		return throughput;
+	}
+
+	private Map<String, Object> getLatency() {
+		final LatencyHistogram histogram = this.recorder.getLatencies();
+		final Map<String, Object> latency = new LinkedHashMap<>();
+		latency.put("count", histogram.getCount()); //$NON-NLS-1$
+		latency.put("mean", histogram.getMean() / NANOS_PER_MICRO); //$NON-NLS-1$
+		latency.put("p50", histogram.getPercentile(50.) / NANOS_PER_MICRO); //$NON-NLS-1$
+		latency.put("p90", histogram.getPercentile(90.) / NANOS_PER_MICRO); //$NON-NLS-1$
+		latency.put("p99", histogram.getPercentile(99.) / NANOS_PER_MICRO); //$NON-NLS-1$
+		latency.put("p999", histogram.getPercentile(99.9) / NANOS_PER_MICRO); //$NON-NLS-1$
+		latency.put("max", histogram.getMax() / NANOS_PER_MICRO); //$NON-NLS-1$
+		return latency;
+	}
+
+	private Map<String, Object> getGc() {
+		final Map<String, Object> collectors = new LinkedHashMap<>();
+		long totalCount = 0;
+		long totalTime = 0;
+		for (final String name : this.after.getCollectorNames()) {
+			final long count = this.after.getCollectionCount(name) - this.before.getCollectionCount(name);
+			final long time = this.after.getCollectionTime(name) - this.before.getCollectionTime(name);
+			final Map<String, Object> collector = new LinkedHashMap<>();
+			collector.put("collections", count); //$NON-NLS-1$
+			collector.put("time", time); //$NON-NLS-1$
+			collectors.put(name, collector);
+			totalCount += count;
+			totalTime += time;
+		}
+		final Map<String, Object> gc = new LinkedHashMap<>();
+		gc.put("collections", totalCount); //$NON-NLS-1$
+		gc.put("time", totalTime); //$NON-NLS-1$
+		gc.put("collectors", collectors); //$NON-NLS-1$
+		return gc;
+	}
+
+	private Map<String, Object> getHeap() {
+		final Map<String, Object> heap = new LinkedHashMap<>();
+		heap.put("start", this.before.getHeap().getUsed()); //$NON-NLS-1$
+		heap.put("end", this.after.getHeap().getUsed()); //$NON-NLS-1$
+		heap.put("peak", this.peakHeap); //$NON-NLS-1$
+		heap.put("committed", this.after.getHeap().getCommitted()); //$NON-NLS-1$
+		heap.put("max", this.after.getHeap().getMax()); //$NON-NLS-1$
+		return heap;
+	}
+
+	@Override
+	public String toString() {
+		return JsonBuffer.toString(this);
+	}
+
+}
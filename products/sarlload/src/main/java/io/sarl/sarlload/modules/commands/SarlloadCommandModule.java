@@ -0,0 +1,64 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sarlload.modules.commands;
+
+import static io.bootique.BQCoreModule.extend;
+
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
+import org.slf4j.Logger;
+
+import io.sarl.sarlload.commands.SarlloadCommand;
+import io.sarl.sarlload.configs.SarlloadConfig;
+
+/** Module for the sarlload command.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+public class SarlloadCommandModule extends AbstractModule {
+
+	@Override
+	protected void configure() {
+		extend(binder()).addCommand(SarlloadCommand.class);
+	}
+
+	/** Provide the command for running sarlload.
+	 *
+	 * @param loggerProvider the provider of SLF4J logger.
+	 * @param config the provider of sarlload configuration.
+	 * @return the command.
+	 */
+	@SuppressWarnings("static-method")
+	@Provides
+	@Singleton
+	public SarlloadCommand provideSarlloadCommand(Provider<Logger> loggerProvider, Provider<SarlloadConfig> config) {
+		return new SarlloadCommand(loggerProvider, config);
+	}
+
+}
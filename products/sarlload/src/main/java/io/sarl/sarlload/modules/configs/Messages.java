@@ -0,0 +1,58 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sarlload.modules.configs;
+
+import org.eclipse.osgi.util.NLS;
+
+/** Messages for the SARL load generator.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @ExcludeFromApidoc
+ */
+@SuppressWarnings("all")
+public class Messages extends NLS {
+	private static final String BUNDLE_NAME = Messages.class.getPackage().getName() + ".messages"; //$NON-NLS-1$
+
+	static {
+		// initialize resource bundle
+		NLS.initializeMessages(BUNDLE_NAME, Messages.class);
+	}
+
+	public static String SarlloadConfigModule_0;
+	public static String SarlloadConfigModule_1;
+	public static String SarlloadConfigModule_2;
+	public static String SarlloadConfigModule_3;
+	public static String SarlloadConfigModule_4;
+	public static String SarlloadConfigModule_5;
+	public static String SarlloadConfigModule_6;
+	public static String SarlloadConfigModule_7;
+	public static String SarlloadConfigModule_8;
+	public static String SarlloadConfigModule_9;
+	public static String SarlloadConfigModule_10;
+	public static String SarlloadConfigModuleProvider_0;
+
+	private Messages() {
+	}
+}
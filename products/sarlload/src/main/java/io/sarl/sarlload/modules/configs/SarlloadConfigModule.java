@@ -0,0 +1,127 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sarlload.modules.configs;
+
+import static io.bootique.BQCoreModule.extend;
+import static io.sarl.sarlload.configs.SarlloadConfig.DURATION_NAME;
+import static io.sarl.sarlload.configs.SarlloadConfig.DURATION_VALUE;
+import static io.sarl.sarlload.configs.SarlloadConfig.REPORT_NAME;
+import static io.sarl.sarlload.configs.SarlloadConfig.SCENARIO_NAME;
+import static io.sarl.sarlload.configs.SarlloadConfig.SIZE_NAME;
+import static io.sarl.sarlload.configs.SarlloadConfig.SIZE_VALUE;
+import static io.sarl.sarlload.configs.SarlloadConfig.WARMUP_NAME;
+import static io.sarl.sarlload.configs.SarlloadConfig.WARMUP_VALUE;
+
+import java.text.MessageFormat;
+import javax.inject.Singleton;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
+import com.google.inject.Provides;
+import io.bootique.config.ConfigurationFactory;
+import io.bootique.meta.application.OptionMetadata;
+import org.arakhne.afc.bootique.variables.VariableDecls;
+
+import io.sarl.sarlload.Constants;
+import io.sarl.sarlload.configs.SarlloadConfig;
+import io.sarl.sarlload.configs.Scenario;
+
+/**
+ * Module for creating and configuring the configuration that is specific to sarlload.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+public class SarlloadConfigModule extends AbstractModule {
+
+	@Override
+	protected void configure() {
+		final StringBuilder scenarioHelp = new StringBuilder();
+		for (final Scenario scenario : Scenario.values()) {
+			if (scenarioHelp.length() > 0) {
+				scenarioHelp.append(Messages.SarlloadConfigModule_0);
+			}
+			scenarioHelp.append(MessageFormat.format(Messages.SarlloadConfigModule_1,
+					scenario.toJsonString(), scenario.getDocumentation()));
+		}
+
+		VariableDecls.extend(binder()).declareVar(SCENARIO_NAME);
+		extend(binder()).addOption(OptionMetadata.builder(
+				Constants.SCENARIO_OPTION,
+				MessageFormat.format(Messages.SarlloadConfigModule_2,
+						Scenario.getDefault().toJsonString(), scenarioHelp.toString()))
+				.valueRequired(Messages.SarlloadConfigModule_3)
+				.build())
+			.mapConfigPath(Constants.SCENARIO_OPTION, SCENARIO_NAME);
+
+		VariableDecls.extend(binder()).declareVar(SIZE_NAME);
+		extend(binder()).addOption(OptionMetadata.builder(
+				Constants.SIZE_OPTION,
+				MessageFormat.format(Messages.SarlloadConfigModule_4, SIZE_VALUE))
+				.valueRequired(Messages.SarlloadConfigModule_5)
+				.build())
+			.mapConfigPath(Constants.SIZE_OPTION, SIZE_NAME);
+
+		VariableDecls.extend(binder()).declareVar(DURATION_NAME);
+		extend(binder()).addOption(OptionMetadata.builder(
+				Constants.DURATION_OPTION,
+				MessageFormat.format(Messages.SarlloadConfigModule_6, DURATION_VALUE))
+				.valueRequired(Messages.SarlloadConfigModule_7)
+				.build())
+			.mapConfigPath(Constants.DURATION_OPTION, DURATION_NAME);
+
+		VariableDecls.extend(binder()).declareVar(WARMUP_NAME);
+		extend(binder()).addOption(OptionMetadata.builder(
+				Constants.WARMUP_OPTION,
+				MessageFormat.format(Messages.SarlloadConfigModule_8, WARMUP_VALUE))
+				.valueRequired(Messages.SarlloadConfigModule_7)
+				.build())
+			.mapConfigPath(Constants.WARMUP_OPTION, WARMUP_NAME);
+
+		VariableDecls.extend(binder()).declareVar(REPORT_NAME);
+		extend(binder()).addOption(OptionMetadata.builder(
+				Constants.REPORT_OPTION,
+				Messages.SarlloadConfigModule_9)
+				.valueRequired(Messages.SarlloadConfigModule_10)
+				.build())
+			.mapConfigPath(Constants.REPORT_OPTION, REPORT_NAME);
+	}
+
+	/** Replies the instance of the sarlload configuration.
+	 *
+	 * @param configFactory accessor to the bootique factory.
+	 * @param injector the current injector.
+	 * @return the sarlload configuration accessor.
+	 */
+	@SuppressWarnings("static-method")
+	@Provides
+	@Singleton
+	public SarlloadConfig getSarlloadConfig(ConfigurationFactory configFactory, Injector injector) {
+		final SarlloadConfig config = SarlloadConfig.getConfiguration(configFactory);
+		injector.injectMembers(config);
+		return config;
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sarlload.modules.internal;
+
+import static io.bootique.BQCoreModule.extend;
+
+import java.text.MessageFormat;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import com.google.inject.AbstractModule;
+import org.arakhne.afc.bootique.applicationdata2.annotations.DefaultApplicationName;
+import org.arakhne.afc.bootique.synopsishelp.annotations.ApplicationArgumentSynopsis;
+import org.arakhne.afc.bootique.synopsishelp.annotations.ApplicationDetailedDescription;
+
+import io.sarl.maven.bootiqueapp.utils.SystemProperties;
+import io.sarl.sarlload.Constants;
+import io.sarl.sarlload.commands.SarlloadCommand;
+import io.sarl.sarlload.configs.SarlloadConfig;
+
+/** Module for configuring the sarlload application information.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+public class SarlloadApplicationModule extends AbstractModule {
+
+	@Override
+	protected void configure() {
+		// Name of the application.
+		bind(String.class).annotatedWith(DefaultApplicationName.class).toInstance(
+				SystemProperties.getValue(SarlloadConfig.PREFIX + ".programName", Constants.PROGRAM_NAME)); //$NON-NLS-1$
+		// Short description of the application.
+		extend(binder()).setApplicationDescription(Messages.SarlloadApplicationModule_0);
+		// Long description of the application.
+		bind(String.class).annotatedWith(ApplicationDetailedDescription.class).toProvider(LongDescriptionProvider.class).in(Singleton.class);
+		// Synopsis of the application's arguments.
+		bind(String.class).annotatedWith(ApplicationArgumentSynopsis.class).toInstance(Messages.SarlloadApplicationModule_1);
+		// Default command
+		extend(binder()).setDefaultCommand(SarlloadCommand.class);
+	}
+
+	/** Provider of the long description of the application.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.11
+	 */
+	private static class LongDescriptionProvider implements Provider<String> {
+
+		@Override
+		public String get() {
+			return MessageFormat.format(Messages.SarlloadApplicationModule_2,
+					"--" + Constants.SCENARIO_OPTION, //$NON-NLS-1$
+					"--" + Constants.SIZE_OPTION, //$NON-NLS-1$
+					"--" + Constants.WARMUP_OPTION, //$NON-NLS-1$
+					"--" + Constants.DURATION_OPTION, //$NON-NLS-1$
+					"--" + Constants.REPORT_OPTION); //$NON-NLS-1$
+		}
+
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sarlload.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.sarl.sarlload.metrics.LatencyHistogram;
+
+/** Tests for {@code LatencyHistogram}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@SuppressWarnings("all")
+@DisplayName("LatencyHistogram")
+public class LatencyHistogramTest {
+
+	private LatencyHistogram histogram;
+
+	@BeforeEach
+	public void setUp() {
+		this.histogram = new LatencyHistogram();
+	}
+
+	@Test
+	@DisplayName("empty")
+	public void empty() {
+		assertEquals(0, this.histogram.getCount());
+		assertEquals(0, this.histogram.getMax());
+		assertEquals(0., this.histogram.getMean());
+		assertEquals(0, this.histogram.getPercentile(99.));
+	}
+
+	@Test
+	@DisplayName("small values are exact")
+	public void smallValues() {
+		for (int i = 1; i <= 10; ++i) {
+			this.histogram.record(i);
+		}
+		assertEquals(10, this.histogram.getCount());
+		assertEquals(10, this.histogram.getMax());
+		assertEquals(5.5, this.histogram.getMean());
+		assertEquals(5, this.histogram.getPercentile(50.));
+		assertEquals(9, this.histogram.getPercentile(90.));
+		assertEquals(10, this.histogram.getPercentile(100.));
+	}
+
+	@Test
+	@DisplayName("large values are bounded")
+	public void largeValues() {
+		for (long i = 1; i <= 100000; ++i) {
+			this.histogram.record(i * 1000);
+		}
+		assertEquals(100000000, this.histogram.getMax());
+		final long p50 = this.histogram.getPercentile(50.);
+		assertTrue(p50 >= 50000000 && p50 <= 50000000 * 1.0625, Long.toString(p50));
+		final long p99 = this.histogram.getPercentile(99.);
+		assertTrue(p99 >= 99000000 && p99 <= 100000000, Long.toString(p99));
+	}
+
+	@Test
+	@DisplayName("negative values")
+	public void negativeValues() {
+		this.histogram.record(-5);
+		assertEquals(1, this.histogram.getCount());
+		assertEquals(0, this.histogram.getPercentile(50.));
+	}
+
+	@Test
+	@DisplayName("reset")
+	public void reset() {
+		this.histogram.record(123);
+		this.histogram.reset();
+		assertEquals(0, this.histogram.getCount());
+		assertEquals(0, this.histogram.getMax());
+	}
+
+}
@@ -0,0 +1,162 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.arakhne.afc.bootique.log4j.configs.Level;
+import org.arakhne.afc.bootique.log4j.configs.Log4jIntegrationConfig;
+import org.arakhne.afc.bootique.variables.VariableNames;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sarl.lang.core.Agent;
+import io.sarl.lang.core.AgentContext;
+import io.sarl.sre.benchmarks.agents.BenchmarkProbe;
+import io.sarl.sre.boot.SreMain;
+import io.sarl.sre.boot.configs.subconfigs.ExecutorsConfig;
+
+/** Abstract implementation of a benchmark that is run within a SRE.
+ *
+ * <p>A SRE is launched in fast boot mode for each trial, with a thread pool of
+ * {@link #threads} threads. The trial-specific configuration is given by {@link #configure()}
+ * and the agents are launched by {@link #prepare()}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class AbstractSreBenchmark {
+
+	/** Number of threads in the thread pool of the SRE.
+	 *
+	 * <p>When it is equal to {@link ExecutorsConfig#MAX_NUMBER_OF_THREADS_IN_EXECUTOR_VALUE}, the number of threads
+	 * is not given to the SRE, which uses its default executor: a fixed pool with a queue of waiting tasks
+	 * that is ordered by priority. Otherwise, the minimum and maximum numbers of threads are set to this value,
+	 * and the SRE uses a pool without waiting queue.
+	 */
+	@Param({"1", "4", "32"})
+	public int threads;
+
+	/** The launched SRE.
+	 */
+	protected SreMain sre;
+
+	/** The root context of the SRE.
+	 */
+	protected AgentContext rootContext;
+
+	/** Launch the SRE.
+	 *
+	 * @throws Exception if the SRE cannot be launched.
+	 */
+	@Setup
+	public void startSre() throws Exception {
+		BenchmarkProbe.reset();
+		System.setProperty(VariableNames.toPropertyName(Log4jIntegrationConfig.LEVEL), Level.ERROR.name());
+		if (this.threads == ExecutorsConfig.MAX_NUMBER_OF_THREADS_IN_EXECUTOR_VALUE) {
+			clearProperty(ExecutorsConfig.MIN_NUMBER_OF_THREADS_IN_EXECUTOR_NAME);
+			clearProperty(ExecutorsConfig.MAX_NUMBER_OF_THREADS_IN_EXECUTOR_NAME);
+		} else {
+			setProperty(ExecutorsConfig.MIN_NUMBER_OF_THREADS_IN_EXECUTOR_NAME, Integer.valueOf(this.threads));
+			setProperty(ExecutorsConfig.MAX_NUMBER_OF_THREADS_IN_EXECUTOR_NAME, Integer.valueOf(this.threads));
+		}
+		configure();
+		this.sre = new SreMain();
+		this.sre.setFastBoot(true);
+		this.rootContext = this.sre.startWithoutAgent();
+		prepare();
+	}
+
+	/** Stop the SRE.
+	 *
+	 * @throws Exception if the SRE cannot be stopped.
+	 */
+	@TearDown
+	public void stopSre() throws Exception {
+		final SreMain s = this.sre;
+		this.sre = null;
+		this.rootContext = null;
+		if (s != null) {
+			s.shutdown(true, (int) BenchmarkProbe.TIMEOUT);
+		}
+	}
+
+	/** Change the configuration of the SRE before it is launched.
+	 * The configuration is changed with {@link #setProperty(String, Object)}.
+	 */
+	protected void configure() {
+		//
+	}
+
+	/** Prepare the trial after the SRE is launched, e.g. spawn the agents.
+	 *
+	 * @throws Exception if the trial cannot be prepared.
+	 */
+	protected void prepare() throws Exception {
+		//
+	}
+
+	/** Change a configuration property of the SRE.
+	 *
+	 * @param name the name of the property.
+	 * @param value the value of the property.
+	 */
+	protected static void setProperty(String name, Object value) {
+		System.setProperty(VariableNames.toPropertyName(name), String.valueOf(value));
+	}
+
+	/** Remove a configuration property of the SRE, in order to use its default value.
+	 *
+	 * @param name the name of the property.
+	 */
+	protected static void clearProperty(String name) {
+		System.clearProperty(VariableNames.toPropertyName(name));
+	}
+
+	/** Spawn agents in the root context and wait for the end of their initialization.
+	 *
+	 * @param count the number of agents.
+	 * @param type the type of the agents. The agents must notify the {@link BenchmarkProbe} when they are started.
+	 * @throws Exception if the agents cannot be spawned.
+	 */
+	protected void spawn(int count, Class<? extends Agent> type) throws Exception {
+		final int expected = BenchmarkProbe.getAgents().size() + count;
+		this.sre.startAgent(count, type);
+		BenchmarkProbe.await(() -> BenchmarkProbe.getAgents().size() >= expected);
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.benchmarks;
+
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+
+import io.sarl.lang.core.EventSpace;
+import io.sarl.sre.benchmarks.agents.BenchmarkEvent;
+import io.sarl.sre.benchmarks.agents.BenchmarkProbe;
+import io.sarl.sre.benchmarks.agents.ReceiverAgent;
+import io.sarl.sre.boot.configs.subconfigs.LifecycleConfig;
+import io.sarl.sre.spaces.UnicastScope;
+
+/** Allocations of the delivery of the events, with and without the behavior unit handlers.
+ *
+ * <p>The agents of this module are compiled with the {@code generateBehaviorUnitHandlers} option.
+ * When {@link LifecycleConfig#BEHAVIOR_UNIT_HANDLERS_NAME} is enabled, the event bus collects the behavior
+ * units into a {@code BehaviorUnitCollection} without allocating a runnable for each of them.
+ *
+ * <p>This benchmark must be run with {@code -prof gc}. Each operation is the delivery of one event to
+ * one receiver: {@code gc.alloc.rate.norm} is the number of bytes that are allocated per delivered event.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+public class BehaviorUnitHandlersBenchmark extends AbstractSreBenchmark {
+
+	/** Number of receivers in the default space.
+	 */
+	public static final int RECEIVERS = 100;
+
+	/** Indicates if the behavior units are collected without runnables.
+	 */
+	@Param({"false", "true"})
+	public boolean behaviorUnitHandlers;
+
+	private EventSpace space;
+
+	private UUID source;
+
+	private UUID receiver;
+
+	@Override
+	protected void configure() {
+		setProperty(LifecycleConfig.BEHAVIOR_UNIT_HANDLERS_NAME, Boolean.valueOf(this.behaviorUnitHandlers));
+	}
+
+	@Override
+	protected void prepare() throws Exception {
+		spawn(RECEIVERS, ReceiverAgent.class);
+		this.space = this.rootContext.getDefaultSpace();
+		this.source = UUID.randomUUID();
+		this.receiver = BenchmarkProbe.getAgents().iterator().next().getID();
+	}
+
+	private void emitAndWait(UUID target, int receiverCount) {
+		final long expected = BenchmarkProbe.getReceivedEvents() + receiverCount;
+		this.space.emit(this.source, new BenchmarkEvent(1), target == null ? null : new UnicastScope(target));
+		BenchmarkProbe.await(() -> BenchmarkProbe.getReceivedEvents() >= expected);
+	}
+
+	/** Emit an event to a single receiver.
+	 */
+	@Benchmark
+	public void unicast() {
+		emitAndWait(this.receiver, 1);
+	}
+
+	/** Emit an event to all the receivers. The results are given per delivered event.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(RECEIVERS)
+	public void broadcast() {
+		emitAndWait(null, RECEIVERS);
+	}
+
+}
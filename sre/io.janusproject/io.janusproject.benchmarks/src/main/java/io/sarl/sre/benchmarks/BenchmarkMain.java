@@ -0,0 +1,71 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Launcher of the SRE benchmarks.
+ *
+ * <p>This launcher accepts the standard JMH command line options, e.g. {@code -t} for the number
+ * of harness threads, {@code -p agents=100} for overriding a parameter, or {@code -prof gc} for
+ * measuring the allocation rate. When no result format is given on the command line, the results
+ * are written in JSON into the file {@value #DEFAULT_RESULT_FILE}, in order to be compared between
+ * two versions of the SRE.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+public final class BenchmarkMain {
+
+	/** Name of the file in which the results are written by default.
+	 */
+	public static final String DEFAULT_RESULT_FILE = "jmh-result.json"; //$NON-NLS-1$
+
+	private BenchmarkMain() {
+		//
+	}
+
+	/** Run the benchmarks.
+	 *
+	 * @param args the JMH command line arguments.
+	 * @throws Exception if the benchmarks cannot be run.
+	 */
+	public static void main(String[] args) throws Exception {
+		final CommandLineOptions cmd = new CommandLineOptions(args);
+		final ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmd);
+		if (!cmd.getResultFormat().hasValue()) {
+			builder.resultFormat(ResultFormatType.JSON);
+			if (!cmd.getResult().hasValue()) {
+				builder.result(DEFAULT_RESULT_FILE);
+			}
+		}
+		new Runner(builder.build()).run();
+	}
+
+}
@@ -0,0 +1,81 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+
+import io.sarl.sre.benchmarks.agents.BenchmarkProbe;
+import io.sarl.sre.benchmarks.agents.ReceiverAgent;
+
+/** Overhead of a call to a function of a capacity, compared to a call to a function of the agent.
+ *
+ * <p>The capacity call includes the retrieval of the skill from the skill repository of the agent.
+ * The first call of each trial also includes the creation of the skill on demand.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CapacityCallBenchmark extends AbstractSreBenchmark {
+
+	/** Number of agents in the SRE.
+	 */
+	@Param({"1", "100"})
+	public int agents;
+
+	private ReceiverAgent agent;
+
+	@Override
+	protected void prepare() throws Exception {
+		spawn(this.agents, ReceiverAgent.class);
+		this.agent = BenchmarkProbe.getAgents().iterator().next();
+	}
+
+	/** Call a function of the {@code Time} capacity.
+	 *
+	 * @return the result of the call.
+	 */
+	@Benchmark
+	public double capacityCall() {
+		return this.agent.callCapacity();
+	}
+
+	/** Call a function of the agent.
+	 *
+	 * @return the result of the call.
+	 */
+	@Benchmark
+	public int agentCall() {
+		return this.agent.callFunction();
+	}
+
+}
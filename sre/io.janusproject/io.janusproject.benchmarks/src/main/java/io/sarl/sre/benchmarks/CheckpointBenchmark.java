@@ -0,0 +1,90 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.sarl.sre.benchmarks.agents.ReceiverAgent;
+import io.sarl.sre.services.checkpoint.CheckpointService;
+import io.sarl.sre.services.checkpoint.CheckpointSummary;
+
+/** Duration of a whole-platform checkpoint.
+ *
+ * <p>The duration includes the quiescence of the executor service and the writing of the checkpoint file.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CheckpointBenchmark extends AbstractSreBenchmark {
+
+	/** Number of agents in the SRE.
+	 */
+	@Param({"100", "1000", "10000", "100000"})
+	public int agents;
+
+	private CheckpointService checkpointService;
+
+	private Path file;
+
+	@Override
+	protected void prepare() throws Exception {
+		spawn(this.agents, ReceiverAgent.class);
+		this.checkpointService = this.sre.getService(CheckpointService.class);
+		this.file = Files.createTempFile("janus-benchmark", ".checkpoint"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/** Delete the checkpoint file.
+	 *
+	 * @throws Exception if the file cannot be deleted.
+	 */
+	@TearDown
+	public void deleteCheckpoint() throws Exception {
+		if (this.file != null) {
+			Files.deleteIfExists(this.file);
+			this.file = null;
+		}
+	}
+
+	/** Save the state of the platform.
+	 *
+	 * @return the summary of the checkpoint.
+	 */
+	@Benchmark
+	public CheckpointSummary checkpoint() {
+		return this.checkpointService.checkpoint(this.file);
+	}
+
+}
@@ -0,0 +1,233 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.text.MessageFormat;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sarl.core.AgentKilled;
+import io.sarl.core.AgentSpawned;
+import io.sarl.core.ContextJoined;
+import io.sarl.core.MemberJoined;
+import io.sarl.lang.core.Address;
+import io.sarl.lang.core.Event;
+import io.sarl.lang.core.EventCodecRegistry;
+import io.sarl.lang.core.SpaceID;
+import io.sarl.sre.benchmarks.agents.BenchmarkEvent;
+
+/** Speed of the binary event codecs that are generated by the SARL compiler, compared to the Java serialization.
+ *
+ * <p>The benchmark is run on the event of this module and on the events of {@code io.sarl.core}.
+ * The sizes of the encoded forms of the event are printed in the output of each trial.
+ * The events are encoded or decoded by batches of {@value ParallelBatch#SIZE} events, which are distributed
+ * over {@link #threads} threads. The results are given per event.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventCodecBenchmark {
+
+	/** Type of the encoded event.
+	 */
+	@Param({"BenchmarkEvent", "AgentSpawned", "AgentKilled", "MemberJoined", "ContextJoined"})
+	public String eventType;
+
+	/** Number of characters in the string field of the event, i.e. the payload of {@code BenchmarkEvent}
+	 * and the agent type of the other events. It is ignored for {@code ContextJoined}, which has no
+	 * string field.
+	 */
+	@Param({"0", "64", "4096"})
+	public int payloadSize;
+
+	/** Number of agents that are emitting the events. Each agent has its own event, with its own address.
+	 */
+	@Param({"1", "100"})
+	public int agents;
+
+	/** Number of threads that are encoding or decoding the events concurrently.
+	 */
+	@Param({"1", "4"})
+	public int threads;
+
+	private ParallelBatch batch;
+
+	private EventCodecRegistry registry;
+
+	private Event[] events;
+
+	private byte[][] encodedEvents;
+
+	private byte[][] serializedEvents;
+
+	/** Create the events and their encoded forms.
+	 *
+	 * @throws Exception if an event cannot be serialized.
+	 */
+	@Setup
+	public void setUp() throws Exception {
+		this.registry = new EventCodecRegistry(getClass().getClassLoader());
+		final StringBuilder payload = new StringBuilder();
+		for (int i = 0; i < this.payloadSize; ++i) {
+			payload.append((char) ('a' + (i % 26)));
+		}
+		final int count = Math.max(1, this.agents);
+		this.events = new Event[count];
+		this.encodedEvents = new byte[count][];
+		this.serializedEvents = new byte[count][];
+		for (int i = 0; i < count; ++i) {
+			this.events[i] = createEvent(payload.toString());
+			this.encodedEvents[i] = this.registry.encode(this.events[i]);
+			this.serializedEvents[i] = serialize(this.events[i]);
+		}
+		System.out.println(MessageFormat.format("{0}: {1} bytes with the codec, {2} bytes with the Java serialization", //$NON-NLS-1$
+				this.eventType, Integer.valueOf(this.encodedEvents[0].length), Integer.valueOf(this.serializedEvents[0].length)));
+		this.batch = new ParallelBatch(this.threads);
+	}
+
+	/** Stop the threads.
+	 */
+	@TearDown
+	public void tearDown() {
+		this.batch.close();
+	}
+
+	private Event createEvent(String string) {
+		final Address source = new Address(new SpaceID(UUID.randomUUID(), UUID.randomUUID(), null), UUID.randomUUID());
+		final Event newEvent;
+		switch (this.eventType) {
+		case "BenchmarkEvent": //$NON-NLS-1$
+			newEvent = new BenchmarkEvent(1, string);
+			break;
+		case "AgentSpawned": //$NON-NLS-1$
+			newEvent = new AgentSpawned(source, UUID.randomUUID(), string);
+			break;
+		case "AgentKilled": //$NON-NLS-1$
+			newEvent = new AgentKilled(source, string);
+			break;
+		case "MemberJoined": //$NON-NLS-1$
+			newEvent = new MemberJoined(source, UUID.randomUUID(), string);
+			break;
+		case "ContextJoined": //$NON-NLS-1$
+			newEvent = new ContextJoined(UUID.randomUUID(), UUID.randomUUID());
+			break;
+		default:
+			throw new IllegalArgumentException(this.eventType);
+		}
+		newEvent.setSource(source);
+		return newEvent;
+	}
+
+	private static byte[] serialize(Event event) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			output.writeObject(event);
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static Object deserialize(byte[] bytes) {
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return input.readObject();
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		} catch (ClassNotFoundException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	/** Encode the events with the codec registry.
+	 *
+	 * @return the number of bytes.
+	 * @throws Exception if the events cannot be encoded.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(ParallelBatch.SIZE)
+	public long codecEncode() throws Exception {
+		return this.batch.run(it -> this.registry.encode(this.events[it % this.events.length]).length);
+	}
+
+	/** Decode the events with the codec registry.
+	 *
+	 * @return the number of decoded events.
+	 * @throws Exception if the events cannot be decoded.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(ParallelBatch.SIZE)
+	public long codecDecode() throws Exception {
+		return this.batch.run(it -> this.registry.decode(this.encodedEvents[it % this.encodedEvents.length]) != null ? 1 : 0);
+	}
+
+	/** Encode the events with the Java serialization.
+	 *
+	 * @return the number of bytes.
+	 * @throws Exception if the events cannot be serialized.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(ParallelBatch.SIZE)
+	public long javaSerialization() throws Exception {
+		return this.batch.run(it -> serialize(this.events[it % this.events.length]).length);
+	}
+
+	/** Decode the events with the Java serialization.
+	 *
+	 * @return the number of decoded events.
+	 * @throws Exception if the events cannot be deserialized.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(ParallelBatch.SIZE)
+	public long javaDeserialization() throws Exception {
+		return this.batch.run(it -> deserialize(this.serializedEvents[it % this.serializedEvents.length]) != null ? 1 : 0);
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.benchmarks;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+
+import io.sarl.lang.core.Address;
+import io.sarl.lang.core.EventSpace;
+import io.sarl.lang.core.Scope;
+import io.sarl.sre.benchmarks.agents.BenchmarkEvent;
+import io.sarl.sre.benchmarks.agents.BenchmarkProbe;
+import io.sarl.sre.benchmarks.agents.ReceiverAgent;
+import io.sarl.sre.boot.configs.subconfigs.ContextsConfig;
+import io.sarl.sre.spaces.UnicastScope;
+
+/** Throughput and latency of the emit and of the delivery of the events within the default space.
+ *
+ * <p>Each operation emits one event and waits until it is received by all the receivers.
+ * The measure includes the scope evaluation, the routing of the event and the execution of
+ * the event handlers of the receivers.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+public class EventDispatchBenchmark extends AbstractSreBenchmark {
+
+	/** Number of receivers in the default space.
+	 */
+	@Param({"10", "100", "1000"})
+	public int agents;
+
+	/** Number of receivers above which the delivery of an event is split into parallel tasks.
+	 */
+	@Param({"4096", "64"})
+	public int parallelEmitThreshold;
+
+	private EventSpace space;
+
+	private UUID source;
+
+	private UUID[] receivers;
+
+	private int nextReceiver;
+
+	private Scope<Address> halfScope;
+
+	private int halfCount;
+
+	@Override
+	protected void configure() {
+		setProperty(ContextsConfig.PARALLEL_EMIT_THRESHOLD_NAME, Integer.valueOf(this.parallelEmitThreshold));
+	}
+
+	@Override
+	protected void prepare() throws Exception {
+		spawn(this.agents, ReceiverAgent.class);
+		this.space = this.rootContext.getDefaultSpace();
+		this.source = UUID.randomUUID();
+		this.receivers = new UUID[this.agents];
+		final Set<UUID> half = new HashSet<>();
+		final Iterator<ReceiverAgent> iterator = BenchmarkProbe.getAgents().iterator();
+		for (int i = 0; i < this.receivers.length && iterator.hasNext(); ++i) {
+			this.receivers[i] = iterator.next().getID();
+			if ((i % 2) == 0) {
+				half.add(this.receivers[i]);
+			}
+		}
+		this.halfCount = half.size();
+		this.halfScope = it -> half.contains(it.getUUID());
+	}
+
+	private void emitAndWait(Scope<Address> scope, int receiverCount) {
+		final long expected = BenchmarkProbe.getReceivedEvents() + receiverCount;
+		this.space.emit(this.source, new BenchmarkEvent(1), scope);
+		BenchmarkProbe.await(() -> BenchmarkProbe.getReceivedEvents() >= expected);
+	}
+
+	/** Emit an event to a single receiver.
+	 */
+	@Benchmark
+	public void unicast() {
+		final UUID receiver = this.receivers[this.nextReceiver];
+		this.nextReceiver = (this.nextReceiver + 1) % this.receivers.length;
+		emitAndWait(new UnicastScope(receiver), 1);
+	}
+
+	/** Emit an event to all the receivers.
+	 */
+	@Benchmark
+	public void broadcast() {
+		emitAndWait(null, this.agents);
+	}
+
+	/** Emit an event to half of the receivers, selected by a scope that is evaluated on each participant.
+	 */
+	@Benchmark
+	public void scoped() {
+		emitAndWait(this.halfScope, this.halfCount);
+	}
+
+}
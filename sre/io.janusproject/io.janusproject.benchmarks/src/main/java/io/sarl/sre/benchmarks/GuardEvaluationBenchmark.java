@@ -0,0 +1,160 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.benchmarks;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.sarl.lang.core.Address;
+import io.sarl.lang.core.SpaceID;
+import io.sarl.sre.benchmarks.agents.BenchmarkEvent;
+import io.sarl.sre.benchmarks.agents.GuardedAgent;
+import io.sarl.sre.internal.eventguard.BehaviorGuardEvaluator;
+import io.sarl.sre.internal.eventguard.BehaviorGuardEvaluatorRegistry;
+import io.sarl.sre.internal.eventguard.BehaviorUnitCollection;
+
+/** Cost of the selection of the guard evaluators and of the evaluation of the guards for an event.
+ *
+ * <p>The guards are evaluated by the registry of the event bus of an agent, without SRE.
+ * The behavior units that are selected by the guards are collected but not run, into the same
+ * collection as the event bus: a {@link BehaviorUnitCollection} when the behavior unit handlers are
+ * enabled, a queue of runnables otherwise. The agents of this module are compiled with the
+ * {@code generateBehaviorUnitHandlers} option; their guard evaluators store the behavior units without
+ * allocating a runnable only into a {@link BehaviorUnitCollection}.
+ * Run with {@code -prof gc} for comparing the allocations per event of the two collections.
+ *
+ * <p>The events are evaluated by batches of {@value ParallelBatch#SIZE} events, which are distributed over
+ * {@link #threads} threads. The results are given per event.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GuardEvaluationBenchmark {
+
+	/** Number of listeners that are registered in the registry.
+	 */
+	@Param({"1", "10", "100"})
+	public int agents;
+
+	/** Indicates if the behavior units are collected without runnables.
+	 */
+	@Param({"false", "true"})
+	public boolean behaviorUnitHandlers;
+
+	/** Number of threads that are evaluating the guards concurrently.
+	 */
+	@Param({"1", "4"})
+	public int threads;
+
+	private ParallelBatch batch;
+
+	private BehaviorGuardEvaluatorRegistry registry;
+
+	private BenchmarkEvent matchingEvent;
+
+	private BenchmarkEvent partiallyMatchingEvent;
+
+	/** Register the listeners.
+	 */
+	@Setup
+	public void setUp() {
+		this.registry = new BehaviorGuardEvaluatorRegistry();
+		for (int i = 0; i < this.agents; ++i) {
+			this.registry.register(new GuardedAgent(UUID.randomUUID(), UUID.randomUUID()));
+		}
+		final Address source = new Address(new SpaceID(UUID.randomUUID(), UUID.randomUUID(), null), UUID.randomUUID());
+		this.matchingEvent = new BenchmarkEvent(2, "payload"); //$NON-NLS-1$
+		this.matchingEvent.setSource(source);
+		this.partiallyMatchingEvent = new BenchmarkEvent(-1);
+		this.partiallyMatchingEvent.setSource(source);
+		this.batch = new ParallelBatch(this.threads);
+	}
+
+	/** Stop the threads.
+	 */
+	@TearDown
+	public void tearDown() {
+		this.batch.close();
+	}
+
+	private long evaluate(BenchmarkEvent event) {
+		final Collection<Runnable> behaviorUnits;
+		if (this.behaviorUnitHandlers) {
+			behaviorUnits = new BehaviorUnitCollection();
+		} else {
+			behaviorUnits = new ConcurrentLinkedDeque<>();
+		}
+		for (final BehaviorGuardEvaluator evaluator : this.registry.getBehaviorGuardEvaluators(event)) {
+			evaluator.evaluateGuard(event, behaviorUnits);
+		}
+		return behaviorUnits.size();
+	}
+
+	/** Evaluate the guards for an event that is matching all of them.
+	 *
+	 * @param blackhole the consumer of the results.
+	 * @throws Exception if the guards cannot be evaluated.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(ParallelBatch.SIZE)
+	public void allGuardsMatching(Blackhole blackhole) throws Exception {
+		blackhole.consume(this.batch.run(it -> evaluate(this.matchingEvent)));
+	}
+
+	/** Evaluate the guards for an event that is matching a part of them.
+	 *
+	 * @param blackhole the consumer of the results.
+	 * @throws Exception if the guards cannot be evaluated.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(ParallelBatch.SIZE)
+	public void someGuardsMatching(Blackhole blackhole) throws Exception {
+		blackhole.consume(this.batch.run(it -> evaluate(this.partiallyMatchingEvent)));
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntToLongFunction;
+
+/** Run a batch of operations, distributed over a fixed number of threads.
+ *
+ * <p>This class is used by the benchmarks that are run without SRE for measuring the cost of an operation
+ * when it is invoked concurrently. With a single thread, the operations are run in the calling thread.
+ * Otherwise, the batch is split into one task per thread; the cost of the submission of the tasks is shared
+ * by all the operations of the batch.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+final class ParallelBatch implements AutoCloseable {
+
+	/** Number of operations in a batch.
+	 */
+	public static final int SIZE = 1024;
+
+	private final int threads;
+
+	private final ExecutorService executor;
+
+	/** Constructor.
+	 *
+	 * @param threads the number of threads that run the operations.
+	 */
+	ParallelBatch(int threads) {
+		this.threads = Math.max(1, threads);
+		this.executor = this.threads > 1 ? Executors.newFixedThreadPool(this.threads) : null;
+	}
+
+	/** Run the operations of a batch and wait for their termination.
+	 *
+	 * @param operation the operation, which is given the index of the operation in the batch.
+	 * @return the sum of the values replied by the operations, to be consumed by the benchmark.
+	 * @throws Exception if an operation has failed.
+	 */
+	long run(IntToLongFunction operation) throws Exception {
+		if (this.executor == null) {
+			return run(operation, 0, SIZE);
+		}
+		final List<Future<Long>> futures = new ArrayList<>(this.threads);
+		for (int i = 0; i < this.threads; ++i) {
+			final int start = i * SIZE / this.threads;
+			final int end = (i + 1) * SIZE / this.threads;
+			futures.add(this.executor.submit(() -> Long.valueOf(run(operation, start, end))));
+		}
+		long result = 0;
+		for (final Future<Long> future : futures) {
+			result += future.get().longValue();
+		}
+		return result;
+	}
+
+	private static long run(IntToLongFunction operation, int start, int end) {
+		long result = 0;
+		for (int i = start; i < end; ++i) {
+			result += operation.applyAsLong(i);
+		}
+		return result;
+	}
+
+	@Override
+	public void close() {
+		if (this.executor != null) {
+			this.executor.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+
+import io.sarl.lang.core.Agent;
+import io.sarl.sre.benchmarks.agents.BenchmarkProbe;
+import io.sarl.sre.benchmarks.agents.ReceiverAgent;
+import io.sarl.sre.services.lifecycle.PassivationService;
+
+/** Duration of the passivation of an agent followed by its reactivation.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PassivationBenchmark extends AbstractSreBenchmark {
+
+	/** Number of agents in the SRE.
+	 */
+	@Param({"1", "1000"})
+	public int agents;
+
+	private PassivationService passivationService;
+
+	private Agent agent;
+
+	@Override
+	protected void prepare() throws Exception {
+		spawn(this.agents, ReceiverAgent.class);
+		this.passivationService = this.sre.getService(PassivationService.class);
+		this.agent = BenchmarkProbe.getAgents().iterator().next();
+	}
+
+	/** Passivate the agent and reactivate it.
+	 *
+	 * @return the reactivated agent.
+	 */
+	@Benchmark
+	public Agent passivateAndReactivate() {
+		if (!this.passivationService.passivate(this.agent)) {
+			throw new IllegalStateException();
+		}
+		this.agent = this.passivationService.reactivate(this.agent.getID());
+		return this.agent;
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+
+import io.sarl.sre.benchmarks.agents.BenchmarkProbe;
+import io.sarl.sre.benchmarks.agents.ReceiverAgent;
+
+/** Cost of the scheduling and of the cancellation of a timed task with the {@code Schedules} capacity.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+public class ScheduleBenchmark extends AbstractSreBenchmark {
+
+	/** Number of agents in the SRE. The tasks are scheduled by each of them in turn.
+	 */
+	@Param({"1", "100"})
+	public int agents;
+
+	private ReceiverAgent[] schedulers;
+
+	private int nextScheduler;
+
+	@Override
+	protected void prepare() throws Exception {
+		spawn(this.agents, ReceiverAgent.class);
+		this.schedulers = BenchmarkProbe.getAgents().toArray(new ReceiverAgent[this.agents]);
+	}
+
+	/** Schedule a task in the far future and cancel it.
+	 *
+	 * @return the cancellation status.
+	 */
+	@Benchmark
+	public boolean scheduleAndCancel() {
+		final ReceiverAgent scheduler = this.schedulers[this.nextScheduler];
+		this.nextScheduler = (this.nextScheduler + 1) % this.schedulers.length;
+		return scheduler.scheduleAndCancel();
+	}
+
+}
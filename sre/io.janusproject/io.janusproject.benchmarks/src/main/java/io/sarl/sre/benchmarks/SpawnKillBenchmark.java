@@ -0,0 +1,65 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+
+import io.sarl.sre.benchmarks.agents.BenchmarkProbe;
+import io.sarl.sre.benchmarks.agents.ShortLivedAgent;
+
+/** Rate of spawn and kill of agents.
+ *
+ * <p>Each operation spawns a group of agents that kill themselves on initialization,
+ * and waits for their destruction. The result is given per agent.
+ * The allocation rate per agent is reported when the benchmark is run with the {@code gc} profiler,
+ * e.g. {@code -prof gc}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+public class SpawnKillBenchmark extends AbstractSreBenchmark {
+
+	/** Number of agents that are spawned by each operation.
+	 * This value must be equal to the value given to {@link OperationsPerInvocation}.
+	 */
+	public static final int AGENTS = 100;
+
+	/** Spawn agents that kill themselves, and wait for their destruction.
+	 *
+	 * @throws Exception if the agents cannot be spawned.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(AGENTS)
+	public void spawnAndKill() throws Exception {
+		final long expected = BenchmarkProbe.getDestroyedAgents() + AGENTS;
+		this.sre.getKernel().spawn(AGENTS, ShortLivedAgent.class);
+		BenchmarkProbe.await(() -> BenchmarkProbe.getDestroyedAgents() >= expected);
+	}
+
+}
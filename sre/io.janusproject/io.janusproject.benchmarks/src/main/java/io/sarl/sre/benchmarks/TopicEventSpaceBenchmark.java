@@ -0,0 +1,162 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+
+import io.sarl.core.OpenEventSpace;
+import io.sarl.core.OpenEventSpaceSpecification;
+import io.sarl.core.TopicEventSpace;
+import io.sarl.core.TopicEventSpaceSpecification;
+import io.sarl.lang.core.Event;
+import io.sarl.lang.core.EventListener;
+import io.sarl.sre.benchmarks.agents.BenchmarkEvent;
+import io.sarl.sre.benchmarks.agents.BenchmarkProbe;
+
+/** Delivery of an event to the subscribers of a topic, compared to a broadcast that is filtered by the receivers.
+ *
+ * <p>The participants are distributed over the topics. With the topic space, the event is published on a
+ * topic and only its subscribers are reached. With the open space, the event is emitted to all the participants,
+ * and each participant evaluates a guard on the value of the event, as an agent with the guard
+ * {@code on BenchmarkEvent [occurrence.value == topic]}. The guard is evaluated by the listener of the
+ * participant, without the event bus of an agent: the measure is a lower bound of the cost of the
+ * guard-filtered broadcast.
+ *
+ * <p>Each operation delivers one event and waits until all the participants that are concerned by it have
+ * received it.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+public class TopicEventSpaceBenchmark extends AbstractSreBenchmark {
+
+	/** Number of participants in each space.
+	 */
+	@Param({"10000"})
+	public int participants;
+
+	/** Number of topics.
+	 */
+	@Param({"1000"})
+	public int topics;
+
+	private final AtomicLong evaluatedGuards = new AtomicLong();
+
+	private TopicEventSpace topicSpace;
+
+	private OpenEventSpace openSpace;
+
+	private UUID source;
+
+	private int nextTopic;
+
+	@Override
+	protected void prepare() throws Exception {
+		this.topicSpace = this.rootContext.getOrCreateSpaceWithSpec(TopicEventSpaceSpecification.class, UUID.randomUUID());
+		this.openSpace = this.rootContext.getOrCreateSpaceWithSpec(OpenEventSpaceSpecification.class, UUID.randomUUID());
+		for (int i = 0; i < this.participants; ++i) {
+			final int topic = i % this.topics;
+			this.topicSpace.subscribe(new GuardedListener(topic, null), Integer.valueOf(topic), false);
+			this.openSpace.register(new GuardedListener(topic, this.evaluatedGuards), false);
+		}
+		this.source = UUID.randomUUID();
+	}
+
+	private int nextTopic() {
+		final int topic = this.nextTopic;
+		this.nextTopic = (topic + 1) % this.topics;
+		return topic;
+	}
+
+	private int subscribers(int topic) {
+		return this.participants / this.topics + (topic < this.participants % this.topics ? 1 : 0);
+	}
+
+	/** Publish an event on a topic of the topic space.
+	 */
+	@Benchmark
+	public void topic() {
+		final int topic = nextTopic();
+		final long expected = BenchmarkProbe.getReceivedEvents() + subscribers(topic);
+		this.topicSpace.publish(this.source, Integer.valueOf(topic), new BenchmarkEvent(topic));
+		BenchmarkProbe.await(() -> BenchmarkProbe.getReceivedEvents() >= expected);
+	}
+
+	/** Emit an event to all the participants of the open space, which are filtering it with a guard.
+	 */
+	@Benchmark
+	public void guardFilteredBroadcast() {
+		final int topic = nextTopic();
+		final long expected = this.evaluatedGuards.get() + this.participants;
+		this.openSpace.emit(this.source, new BenchmarkEvent(topic));
+		BenchmarkProbe.await(() -> this.evaluatedGuards.get() >= expected);
+	}
+
+	/** Participant that is receiving the events of a topic.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.11
+	 */
+	private static final class GuardedListener implements EventListener {
+
+		private final UUID id = UUID.randomUUID();
+
+		private final int topic;
+
+		private final AtomicLong evaluatedGuards;
+
+		GuardedListener(int topic, AtomicLong evaluatedGuards) {
+			this.topic = topic;
+			this.evaluatedGuards = evaluatedGuards;
+		}
+
+		@Override
+		public UUID getID() {
+			return this.id;
+		}
+
+		@Override
+		public void receiveEvent(Event event) {
+			if (((BenchmarkEvent) event).getValue() == this.topic) {
+				BenchmarkProbe.eventReceived();
+			}
+			if (this.evaluatedGuards != null) {
+				this.evaluatedGuards.incrementAndGet();
+			}
+		}
+
+	}
+
+}
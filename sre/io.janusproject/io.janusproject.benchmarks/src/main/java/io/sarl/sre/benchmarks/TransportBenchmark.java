@@ -0,0 +1,229 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.benchmarks;
+
+import java.net.InetSocketAddress;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sarl.sre.benchmarks.agents.BenchmarkProbe;
+import io.sarl.sre.services.network.NetworkTransport;
+import io.sarl.sre.services.network.NetworkTransportListener;
+import io.sarl.sre.services.network.SharedMemoryNetworkTransport;
+import io.sarl.sre.services.network.TcpNetworkTransport;
+
+/** Throughput and latency of the transports of the messages between two SRE nodes of the same host.
+ *
+ * <p>The TCP transport is measured with and without batching of the frames, and with compression.
+ * The shared-memory transport is measured with its default ring size.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransportBenchmark {
+
+	/** Number of messages that are sent by each operation of {@link #stream()}.
+	 * This value must be equal to the value given to {@link OperationsPerInvocation}.
+	 */
+	public static final int MESSAGES = 1000;
+
+	/** Type of transport: {@code tcp}, {@code tcp-unbatched}, {@code tcp-compressed} or {@code shared-memory}.
+	 */
+	@Param({"tcp", "tcp-unbatched", "tcp-compressed", "shared-memory"})
+	public String transport;
+
+	/** Size of the messages in bytes.
+	 */
+	@Param({"64", "1024"})
+	public int messageSize;
+
+	private NetworkTransport sender;
+
+	private NetworkTransport receiver;
+
+	private CountingListener receiverListener;
+
+	private Path directory;
+
+	private byte[] message;
+
+	/** Open the transports and wait for their connection.
+	 *
+	 * @throws Exception if the transports cannot be opened.
+	 */
+	@Setup
+	public void setUp() throws Exception {
+		this.message = new byte[this.messageSize];
+		this.receiverListener = new CountingListener();
+		final CountingListener senderListener = new CountingListener();
+		switch (this.transport) {
+		case "tcp": //$NON-NLS-1$
+			openTcp(TcpNetworkTransport.DEFAULT_BATCH_LATENCY, false, senderListener);
+			break;
+		case "tcp-unbatched": //$NON-NLS-1$
+			openTcp(0, false, senderListener);
+			break;
+		case "tcp-compressed": //$NON-NLS-1$
+			openTcp(TcpNetworkTransport.DEFAULT_BATCH_LATENCY, true, senderListener);
+			break;
+		case "shared-memory": //$NON-NLS-1$
+			this.directory = Files.createTempDirectory("janus-benchmark"); //$NON-NLS-1$
+			this.receiver = new SharedMemoryNetworkTransport(UUID.randomUUID(), this.directory);
+			this.receiver.open(this.receiverListener);
+			this.sender = new SharedMemoryNetworkTransport(UUID.randomUUID(), this.directory);
+			this.sender.open(senderListener);
+			break;
+		default:
+			throw new IllegalArgumentException(this.transport);
+		}
+		final UUID receiverNode = this.receiver.getLocalNode();
+		final UUID senderNode = this.sender.getLocalNode();
+		BenchmarkProbe.await(() -> senderListener.connected.contains(receiverNode)
+				&& this.receiverListener.connected.contains(senderNode));
+	}
+
+	private void openTcp(long batchLatency, boolean compression, CountingListener senderListener) {
+		final TcpNetworkTransport tcpReceiver = new TcpNetworkTransport(UUID.randomUUID(),
+				new InetSocketAddress("127.0.0.1", 0), null, null, //$NON-NLS-1$
+				TcpNetworkTransport.DEFAULT_BATCH_SIZE, batchLatency, compression);
+		this.receiver = tcpReceiver;
+		this.receiver.open(this.receiverListener);
+		this.sender = new TcpNetworkTransport(UUID.randomUUID(),
+				new InetSocketAddress("127.0.0.1", 0), //$NON-NLS-1$
+				Collections.singletonList(tcpReceiver.getLocalAddress()), null,
+				TcpNetworkTransport.DEFAULT_BATCH_SIZE, batchLatency, compression);
+		this.sender.open(senderListener);
+	}
+
+	/** Close the transports.
+	 *
+	 * @throws Exception if the transports cannot be closed.
+	 */
+	@TearDown
+	public void tearDown() throws Exception {
+		if (this.sender != null) {
+			this.sender.close();
+			this.sender = null;
+		}
+		if (this.receiver != null) {
+			this.receiver.close();
+			this.receiver = null;
+		}
+		if (this.directory != null) {
+			try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory)) {
+				for (final Path file : stream) {
+					Files.deleteIfExists(file);
+				}
+			}
+			Files.deleteIfExists(this.directory);
+			this.directory = null;
+		}
+	}
+
+	/** Send a message and wait for its reception.
+	 */
+	@Benchmark
+	public void roundTrip() {
+		final long expected = this.receiverListener.messages.get() + 1;
+		this.sender.send(this.receiver.getLocalNode(), this.message);
+		BenchmarkProbe.await(() -> this.receiverListener.messages.get() >= expected);
+	}
+
+	/** Send a stream of messages and wait for the reception of the last one.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(MESSAGES)
+	public void stream() {
+		final long expected = this.receiverListener.messages.get() + MESSAGES;
+		final UUID node = this.receiver.getLocalNode();
+		for (int i = 0; i < MESSAGES; ++i) {
+			this.sender.send(node, this.message);
+		}
+		BenchmarkProbe.await(() -> this.receiverListener.messages.get() >= expected);
+	}
+
+	/** Listener that counts the received messages.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 0.11
+	 */
+	private static class CountingListener implements NetworkTransportListener {
+
+		final Set<UUID> connected = ConcurrentHashMap.newKeySet();
+
+		final AtomicLong messages = new AtomicLong();
+
+		CountingListener() {
+			//
+		}
+
+		@Override
+		public void nodeConnected(UUID node) {
+			this.connected.add(node);
+		}
+
+		@Override
+		public void nodeDisconnected(UUID node) {
+			this.connected.remove(node);
+		}
+
+		@Override
+		public void messageReceived(UUID sender, byte[] message) {
+			this.messages.incrementAndGet();
+		}
+
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.boot.configs.subconfigs;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.google.common.base.Strings;
+
+/**
+ * Policy that is applied when an event is received by an agent whose bounded inbound event queue is full.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+public enum EventQueueOverflowPolicy {
+
+	/** The producer of the event is blocked until a slot is available in the queue.
+	 * If no slot becomes available before the blocking timeout, the event is dropped.
+	 */
+	BLOCK,
+
+	/** The received event is dropped.
+	 */
+	DROP_NEWEST,
+
+	/** The oldest event in the queue is dropped for making room to the received event.
+	 */
+	DROP_OLDEST,
+
+	/** The received event replaces the pending event of the same type and from the same source.
+	 * If there is no such pending event, the received event is dropped.
+	 */
+	CONFLATE,
+
+	/** The received event is wrapped into a {@code DeadEvent} that is given to the agent outside the queue.
+	 * If the agent has no handler for {@code DeadEvent}, the received event is dropped.
+	 */
+	DEAD_EVENT;
+
+	/** Parse the given case insensitive string for obtaining the policy.
+	 *
+	 * @param name the string to parse.
+	 * @return the policy.
+	 * @throws NullPointerException when the specified name is null
+	 */
+	@JsonCreator
+	public static EventQueueOverflowPolicy valueOfCaseInsensitive(String name) {
+		if (Strings.isNullOrEmpty(name)) {
+			throw new NullPointerException("name is null"); //$NON-NLS-1$
+		}
+		try {
+			final EventQueueOverflowPolicy type = valueOf(name.toUpperCase().replace('-', '_'));
+			if (type != null) {
+				return type;
+			}
+		} catch (Throwable exception) {
+			//
+		}
+		throw new IllegalArgumentException("illegal value for name: " + name); //$NON-NLS-1$
+	}
+
+	/** Replies the Json string representation of this policy.
+	 *
+	 * @return the Json string representation.
+	 */
+	@JsonValue
+	public String toJsonString() {
+		return name().toLowerCase().replace('_', '-');
+	}
+
+	/** Replies the default policy.
+	 *
+	 * @return the default policy.
+	 */
+	public static EventQueueOverflowPolicy getDefault() {
+		return BLOCK;
+	}
+
+	/** Replies the Json labels of the policies.
+	 *
+	 * @return the labels.
+	 */
+	public static String getJsonLabels() {
+		final StringBuilder buffer = new StringBuilder();
+		boolean first = true;
+		for (final EventQueueOverflowPolicy type : values()) {
+			if (first) {
+				first = false;
+			} else {
+				buffer.append(", "); //$NON-NLS-1$
+			}
+			buffer.append(type.toJsonString());
+		}
+		return buffer.toString();
+	}
+
+}
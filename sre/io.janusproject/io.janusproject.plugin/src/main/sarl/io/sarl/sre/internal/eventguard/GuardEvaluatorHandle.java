@@ -0,0 +1,78 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.internal.eventguard;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Collection;
+
+/**
+ * Invoker of a {@code PerceptGuardEvaluator} method that is based on a method handle.
+ *
+ * <p>The method handle is resolved once, and its access is checked once. It is invoked with
+ * {@link MethodHandle#invokeExact(Object...)} because the SARL compiler cannot generate the call to
+ * a method with a polymorphic signature.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ * @see StaticBehaviorGuardEvaluatorDictionary#getGuardEvaluatorHandle(Method)
+ */
+public final class GuardEvaluatorHandle {
+
+	private static final MethodType TYPE = MethodType.methodType(void.class, Object.class, Object.class,
+			Collection.class);
+
+	private final MethodHandle handle;
+
+	private GuardEvaluatorHandle(MethodHandle handle) {
+		this.handle = handle;
+	}
+
+	/** Create the handle for the given guard evaluator.
+	 *
+	 * @param method the guard evaluator, with the event and the collection of runnables as parameters.
+	 * @return the handle.
+	 * @throws IllegalAccessException if the method cannot be accessed.
+	 */
+	public static GuardEvaluatorHandle of(Method method) throws IllegalAccessException {
+		method.setAccessible(true);
+		return new GuardEvaluatorHandle(MethodHandles.lookup().unreflect(method).asType(TYPE));
+	}
+
+	/** Invoke the guard evaluator.
+	 *
+	 * @param target the object on which the guard evaluator is invoked.
+	 * @param event the event to evaluate.
+	 * @param behaviorsMethodsToExecute the collection to fill with the behavior methods to run.
+	 * @throws ClassCastException if the target or the event has not the expected type.
+	 * @throws Throwable the error thrown by the guard evaluator.
+	 */
+	public void invoke(Object target, Object event, Collection<Runnable> behaviorsMethodsToExecute) throws Throwable {
+		this.handle.invokeExact(target, event, behaviorsMethodsToExecute);
+	}
+
+}
@@ -0,0 +1,189 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.sre.services.network;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * Ordered and volatile accesses to the memory of a direct buffer, e.g. a memory-mapped file.
+ *
+ * <p>The Java 8 API has no ordered access to the content of a buffer. The plain accesses of
+ * {@link ByteBuffer} could be reordered by the compiler and the processor with the other memory accesses.
+ * This class uses {@code sun.misc.Unsafe} on the address of the buffer:
+ * {@link #putOrderedLong(int, long)} is a store with release semantics, i.e. the previous
+ * memory accesses cannot be reordered after it; {@link #getLongVolatile(int)} is a load with acquire
+ * semantics, i.e. the next memory accesses cannot be reordered before it.
+ *
+ * <p>{@code sun.misc.Unsafe} is retrieved by reflection, and its functions are invoked through method
+ * handles, in order to avoid a compile-time dependency on an internal API.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+public final class OrderedBufferAccess {
+
+	private static final MethodHandle PUT_ORDERED_LONG;
+
+	private static final MethodHandle GET_LONG_VOLATILE;
+
+	private static final MethodHandle PUT_ORDERED_INT;
+
+	private static final MethodHandle GET_INT_VOLATILE;
+
+	private static final MethodHandle GET_LONG;
+
+	private static final long ADDRESS_OFFSET;
+
+	static {
+		try {
+			final Class<?> type = Class.forName("sun.misc.Unsafe"); //$NON-NLS-1$
+			final Field field = type.getDeclaredField("theUnsafe"); //$NON-NLS-1$
+			field.setAccessible(true);
+			final Object unsafe = field.get(null);
+			final MethodHandles.Lookup lookup = MethodHandles.lookup();
+			PUT_ORDERED_LONG = lookup.findVirtual(type, "putOrderedLong", //$NON-NLS-1$
+					MethodType.methodType(void.class, Object.class, long.class, long.class)).bindTo(unsafe);
+			GET_LONG_VOLATILE = lookup.findVirtual(type, "getLongVolatile", //$NON-NLS-1$
+					MethodType.methodType(long.class, Object.class, long.class)).bindTo(unsafe);
+			PUT_ORDERED_INT = lookup.findVirtual(type, "putOrderedInt", //$NON-NLS-1$
+					MethodType.methodType(void.class, Object.class, long.class, int.class)).bindTo(unsafe);
+			GET_INT_VOLATILE = lookup.findVirtual(type, "getIntVolatile", //$NON-NLS-1$
+					MethodType.methodType(int.class, Object.class, long.class)).bindTo(unsafe);
+			GET_LONG = lookup.findVirtual(type, "getLong", //$NON-NLS-1$
+					MethodType.methodType(long.class, Object.class, long.class)).bindTo(unsafe);
+			final MethodHandle objectFieldOffset = lookup.findVirtual(type, "objectFieldOffset", //$NON-NLS-1$
+					MethodType.methodType(long.class, Field.class)).bindTo(unsafe);
+			ADDRESS_OFFSET = (long) objectFieldOffset.invokeExact(Buffer.class.getDeclaredField("address")); //$NON-NLS-1$
+		} catch (RuntimeException | Error exception) {
+			throw exception;
+		} catch (Throwable exception) {
+			throw new ExceptionInInitializerError(exception);
+		}
+	}
+
+	private final ByteBuffer buffer;
+
+	private final long address;
+
+	/** Constructor.
+	 *
+	 * @param buffer the direct buffer to access. The reference to the buffer is kept in order to
+	 *     keep its memory allocated.
+	 */
+	public OrderedBufferAccess(ByteBuffer buffer) {
+		if (!buffer.isDirect()) {
+			throw new IllegalArgumentException();
+		}
+		this.buffer = buffer;
+		try {
+			this.address = (long) GET_LONG.invokeExact((Object) buffer, ADDRESS_OFFSET);
+		} catch (RuntimeException | Error exception) {
+			throw exception;
+		} catch (Throwable exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	/** Replies the buffer.
+	 *
+	 * @return the buffer.
+	 */
+	public ByteBuffer getBuffer() {
+		return this.buffer;
+	}
+
+	private long address(int index, int size) {
+		if (index < 0 || index > this.buffer.capacity() - size) {
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		}
+		return this.address + index;
+	}
+
+	/** Write a long value with release semantics.
+	 *
+	 * @param index the index of the value in the buffer.
+	 * @param value the value.
+	 */
+	public void putOrderedLong(int index, long value) {
+		try {
+			PUT_ORDERED_LONG.invokeExact((Object) null, address(index, 8), value);
+		} catch (RuntimeException | Error exception) {
+			throw exception;
+		} catch (Throwable exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	/** Read a long value with acquire semantics.
+	 *
+	 * @param index the index of the value in the buffer.
+	 * @return the value.
+	 */
+	public long getLongVolatile(int index) {
+		try {
+			return (long) GET_LONG_VOLATILE.invokeExact((Object) null, address(index, 8));
+		} catch (RuntimeException | Error exception) {
+			throw exception;
+		} catch (Throwable exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	/** Write an integer value with release semantics.
+	 *
+	 * @param index the index of the value in the buffer.
+	 * @param value the value.
+	 */
+	public void putOrderedInt(int index, int value) {
+		try {
+			PUT_ORDERED_INT.invokeExact((Object) null, address(index, 4), value);
+		} catch (RuntimeException | Error exception) {
+			throw exception;
+		} catch (Throwable exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	/** Read an integer value with acquire semantics.
+	 *
+	 * @param index the index of the value in the buffer.
+	 * @return the value.
+	 */
+	public int getIntVolatile(int index) {
+		try {
+			return (int) GET_INT_VOLATILE.invokeExact((Object) null, address(index, 4));
+		} catch (RuntimeException | Error exception) {
+			throw exception;
+		} catch (Throwable exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+}
@@ -28,11 +28,13 @@ import static io.sarl.tests.api.tools.TestReflections.invokeProc;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.security.InvalidParameterException;
+import java.util.Collections;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -430,6 +432,28 @@ public class AbstractSkillContainerTest extends AbstractSarlTest {
 		assertSame(ref0, ref1);
 	}
 
+	@Test
+	public void getInternalSkillIfPresent() throws Exception {
+		assertNull(SREutils.getInternalSkillIfPresent(this.container, Capacity3.class));
+		assertTrue(SREutils.getSkillRepository(this.container).isEmpty());
+		Skill1 so = new Skill1();
+		this.container.setSkill_Fake(so);
+		assertSame(so, SREutils.getInternalSkillIfPresent(this.container, Capacity1.class));
+	}
+
+	@Test
+	public void getUnusedSkillCapacities() throws Exception {
+		this.container.setSkill_Fake(new Skill1(), Capacity1.class);
+		this.container.setSkill_Fake(new Skill2(), Capacity2.class);
+		assertEquals(2, SREutils.getUnusedSkillCapacities(this.container).size());
+		//
+		this.container.$getSkill(Capacity1.class);
+		assertEquals(Collections.singletonList(Capacity2.class), SREutils.getUnusedSkillCapacities(this.container));
+		//
+		this.container.$getSkill(Capacity3.class);
+		assertEquals(Collections.singletonList(Capacity2.class), SREutils.getUnusedSkillCapacities(this.container));
+	}
+
 	@Test
 	public void getSkill_noRegistration() throws Exception {
 		assertException(UnimplementedCapacityException.class, () -> {
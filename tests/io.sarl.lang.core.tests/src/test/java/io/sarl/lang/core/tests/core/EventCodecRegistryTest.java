@@ -0,0 +1,391 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.core.tests.core;
+
+import static io.sarl.tests.api.tools.TestAssertions.assertException;
+import static io.sarl.tests.api.tools.TestAssertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.sarl.lang.core.Address;
+import io.sarl.lang.core.Event;
+import io.sarl.lang.core.EventCodec;
+import io.sarl.lang.core.EventCodecException;
+import io.sarl.lang.core.EventCodecRegistry;
+import io.sarl.lang.core.EventInput;
+import io.sarl.lang.core.EventOutput;
+import io.sarl.lang.core.SpaceID;
+import io.sarl.tests.api.AbstractSarlTest;
+import io.sarl.tests.api.Nullable;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@SuppressWarnings("all")
+@DisplayName("EventCodecRegistry")
+public class EventCodecRegistryTest extends AbstractSarlTest {
+
+	@Nullable
+	private EventCodecRegistry registry;
+
+	@Nullable
+	private Address source;
+
+	@BeforeEach
+	public void setUp() {
+		this.registry = new EventCodecRegistry(getClass().getClassLoader());
+		this.source = new Address(new SpaceID(UUID.randomUUID(), UUID.randomUUID(), null), UUID.randomUUID());
+	}
+
+	private static int javaSerializationSize(Object object) throws Exception {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream stream = new ObjectOutputStream(bytes)) {
+			stream.writeObject(object);
+		}
+		return bytes.size();
+	}
+
+	@Test
+	public void getCodec_generated() {
+		final EventCodec<CodecEvent2> codec = this.registry.getCodec(CodecEvent2.class);
+		assertNotNull(codec);
+		assertSame(CodecEvent2.class, codec.getEventType());
+	}
+
+	@Test
+	public void getCodec_notGenerated() {
+		assertNull(this.registry.getCodec(NoCodecEvent.class));
+		assertNull(this.registry.getCodec(PartialCodecEvent.class));
+	}
+
+	@Test
+	public void getCodec_registered() {
+		final EventCodec<NoCodecEvent> codec = new NoCodecEventCodec();
+		this.registry.register(codec);
+		assertSame(codec, this.registry.getCodec(NoCodecEvent.class));
+		this.registry.unregister(NoCodecEvent.class);
+		assertNull(this.registry.getCodec(NoCodecEvent.class));
+	}
+
+	@Test
+	public void encodeDecode_generated() {
+		final CodecEvent2 event = new CodecEvent2("abc", 34, UUID.randomUUID(), 12.5, new Object[] {"x", 1});
+		event.setSource(this.source);
+		final Event decoded = this.registry.decode(this.registry.encode(event));
+		assertInstanceOf(CodecEvent2.class, decoded);
+		final CodecEvent2 decoded2 = (CodecEvent2) decoded;
+		assertEquals(this.source, decoded2.getSource());
+		assertEquals("abc", decoded2.name);
+		assertEquals(34, decoded2.value);
+		assertEquals(event.id, decoded2.id);
+		assertEquals(12.5, decoded2.ratio);
+		assertArrayEquals((Object[]) event.data, (Object[]) decoded2.data);
+	}
+
+	@Test
+	public void encodeDecode_generated_nullValues() {
+		final CodecEvent2 event = new CodecEvent2(null, 0, null, 0., null);
+		final CodecEvent2 decoded = (CodecEvent2) this.registry.decode(this.registry.encode(event));
+		assertNull(decoded.getSource());
+		assertNull(decoded.name);
+		assertNull(decoded.id);
+		assertNull(decoded.data);
+	}
+
+	@Test
+	public void encodeDecode_nestedEvent() {
+		final CodecEvent1 nested = new CodecEvent1("nested", 1, null);
+		final CodecEvent2 event = new CodecEvent2("abc", 34, null, 1., nested);
+		final CodecEvent2 decoded = (CodecEvent2) this.registry.decode(this.registry.encode(event));
+		assertInstanceOf(CodecEvent1.class, decoded.data);
+		assertEquals("nested", ((CodecEvent1) decoded.data).name);
+	}
+
+	@Test
+	public void encodeDecode_serialization() {
+		final NoCodecEvent event = new NoCodecEvent("abc");
+		event.setSource(this.source);
+		final Event decoded = this.registry.decode(this.registry.encode(event));
+		assertInstanceOf(NoCodecEvent.class, decoded);
+		assertEquals("abc", ((NoCodecEvent) decoded).name);
+		assertEquals(this.source, decoded.getSource());
+	}
+
+	@Test
+	public void encodeDecode_registered() {
+		this.registry.register(new NoCodecEventCodec());
+		final NoCodecEvent event = new NoCodecEvent("abc");
+		final byte[] bytes = this.registry.encode(event);
+		final Event decoded = this.registry.decode(bytes);
+		assertEquals("abc", ((NoCodecEvent) decoded).name);
+	}
+
+	@Test
+	public void decode_schemaMismatch() throws Exception {
+		final EventOutput output = new EventOutput(this.registry, ByteBuffer.allocate(16));
+		output.writeString(CodecEvent1.class.getName());
+		output.writeByte(0);
+		output.writeAddress(null);
+		output.writeSchema(CodecEvent1.SCHEMA + 1);
+		assertException(EventCodecException.class, () -> {
+			this.registry.decode(output.toByteArray());
+		});
+	}
+
+	@Test
+	public void decode_unknownType() throws Exception {
+		final EventOutput output = new EventOutput(this.registry, ByteBuffer.allocate(16));
+		output.writeString("io.sarl.lang.core.tests.core.UnknownEventType");
+		output.writeByte(0);
+		assertException(EventCodecException.class, () -> {
+			this.registry.decode(output.toByteArray());
+		});
+	}
+
+	@Test
+	public void decode_serializationNotAllowed() {
+		final byte[] bytes = this.registry.encode(new PayloadEvent(new Payload("abc")));
+		assertException(EventCodecException.class, () -> {
+			this.registry.decode(bytes);
+		});
+		this.registry.registerSerializableType(Payload.class);
+		final Event decoded = this.registry.decode(bytes);
+		assertEquals("abc", ((PayloadEvent) decoded).payload.value);
+	}
+
+	@Test
+	public void readObject_invalidArrayLength() {
+		final EventOutput output = new EventOutput(this.registry, ByteBuffer.allocate(16));
+		output.writeObject(new Object[] {"x"});
+		final byte[] bytes = output.toByteArray();
+		// The length of the array follows the tag
+		bytes[1] = Byte.MAX_VALUE;
+		final EventInput input = new EventInput(this.registry, ByteBuffer.wrap(bytes));
+		assertException(EventCodecException.class, () -> {
+			input.readObject();
+		});
+	}
+
+	@Test
+	public void readString_invalidLength() {
+		final EventOutput output = new EventOutput(this.registry, ByteBuffer.allocate(16));
+		output.writeString("abc");
+		final byte[] bytes = output.toByteArray();
+		bytes[0] = Byte.MAX_VALUE;
+		final EventInput input = new EventInput(this.registry, ByteBuffer.wrap(bytes));
+		assertException(EventCodecException.class, () -> {
+			input.readString();
+		});
+	}
+
+	@Test
+	public void size_smallerThanSerialization() throws Exception {
+		final CodecEvent2 event = new CodecEvent2("abc", 34, UUID.randomUUID(), 12.5, null);
+		event.setSource(this.source);
+		final int binarySize = this.registry.encode(event).length;
+		final int javaSize = javaSerializationSize(event);
+		assertTrue(binarySize * 2 < javaSize, () -> "binary: " + binarySize + "; serialization: " + javaSize);
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	public static class CodecEvent1 extends Event {
+
+		static final int SCHEMA = 123;
+
+		public final String name;
+
+		public int value;
+
+		public UUID id;
+
+		public CodecEvent1(String name, int value, UUID id) {
+			this.name = name;
+			this.value = value;
+			this.id = id;
+		}
+
+		protected CodecEvent1(EventInput input) {
+			super(input);
+			input.readSchema(SCHEMA, CodecEvent1.class);
+			this.name = input.readString();
+			this.value = input.readInt();
+			this.id = input.readUUID();
+		}
+
+		@Override
+		protected void writeFields(EventOutput output) {
+			super.writeFields(output);
+			output.writeSchema(SCHEMA);
+			output.writeString(this.name);
+			output.writeInt(this.value);
+			output.writeUUID(this.id);
+		}
+
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	public static class CodecEvent2 extends CodecEvent1 {
+
+		public double ratio;
+
+		public Object data;
+
+		public CodecEvent2(String name, int value, UUID id, double ratio, Object data) {
+			super(name, value, id);
+			this.ratio = ratio;
+			this.data = data;
+		}
+
+		protected CodecEvent2(EventInput input) {
+			super(input);
+			input.readSchema(456, CodecEvent2.class);
+			this.ratio = input.readDouble();
+			this.data = input.readObject();
+		}
+
+		@Override
+		protected void writeFields(EventOutput output) {
+			super.writeFields(output);
+			output.writeSchema(456);
+			output.writeDouble(this.ratio);
+			output.writeObject(this.data);
+		}
+
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	public static class PartialCodecEvent extends CodecEvent1 {
+
+		public String other;
+
+		public PartialCodecEvent() {
+			super(null, 0, null);
+		}
+
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	public static class NoCodecEvent extends Event {
+
+		public final String name;
+
+		public NoCodecEvent(String name) {
+			this.name = name;
+		}
+
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	public static class Payload implements Serializable {
+
+		public final String value;
+
+		public Payload(String value) {
+			this.value = value;
+		}
+
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	public static class PayloadEvent extends Event {
+
+		public final Payload payload;
+
+		public PayloadEvent(Payload payload) {
+			this.payload = payload;
+		}
+
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static class NoCodecEventCodec implements EventCodec<NoCodecEvent> {
+
+		@Override
+		public Class<NoCodecEvent> getEventType() {
+			return NoCodecEvent.class;
+		}
+
+		@Override
+		public void encode(NoCodecEvent event, EventOutput output) {
+			output.writeString(event.name);
+		}
+
+		@Override
+		public NoCodecEvent decode(EventInput input) {
+			return new NoCodecEvent(input.readString());
+		}
+
+	}
+
+}
@@ -58,6 +58,7 @@ public class Bug553Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug553;",
 			"",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -72,6 +73,7 @@ public class Bug553Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = MyEvent.class, guards = \"$guardEvaluator$MyEvent\")",
 			"@SuppressWarnings(\"all\")",
 			"public class TestAgent extends Agent {",
 			"  private void $behaviorUnit$MyEvent$0(final MyEvent occurrence) {",
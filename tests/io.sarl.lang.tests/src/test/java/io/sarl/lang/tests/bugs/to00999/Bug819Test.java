@@ -78,6 +78,7 @@ public class Bug819Test extends AbstractSarlTest {
 			"import io.sarl.core.Logging;",
 			"import io.sarl.lang.annotation.ImportedCapacityFeature;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -97,6 +98,7 @@ public class Bug819Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = Initialize.class, guards = \"$guardEvaluator$Initialize\")",
 			"@SuppressWarnings(\"all\")",
 			"public class Agent3 extends Agent {",
 			"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
@@ -65,6 +65,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"",
 			"import io.sarl.core.Initialize;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -77,6 +78,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = Initialize.class, guards = \"$guardEvaluator$Initialize\")",
 			"@SuppressWarnings(\"all\")",
 			"public class SomeAgent extends Agent {",
 			"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
@@ -125,6 +127,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"",
 			"import io.sarl.core.Initialize;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -137,6 +140,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = Initialize.class, guards = \"$guardEvaluator$Initialize\")",
 			"@SuppressWarnings(\"all\")",
 			"public class SomeAgent extends Agent {",
 			"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
@@ -186,6 +190,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"",
 			"import io.sarl.core.Initialize;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -198,6 +203,7 @@ public class Bug846Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = Initialize.class, guards = \"$guardEvaluator$Initialize\")",
 			"@SuppressWarnings(\"all\")",
 			"public class SomeAgent extends Agent {",
 			"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
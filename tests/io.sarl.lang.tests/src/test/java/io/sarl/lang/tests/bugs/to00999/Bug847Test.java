@@ -68,6 +68,7 @@ public class Bug847Test extends AbstractSarlTest {
 			"import io.sarl.core.Logging;",
 			"import io.sarl.lang.annotation.ImportedCapacityFeature;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -83,6 +84,7 @@ public class Bug847Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = AgentSpawned.class, guards = \"$guardEvaluator$AgentSpawned\")",
 			"@SuppressWarnings(\"all\")",
 			"public class SomeAgent extends Agent {",
 			"  private void $behaviorUnit$AgentSpawned$0(final AgentSpawned occurrence) {",
@@ -169,6 +171,7 @@ public class Bug847Test extends AbstractSarlTest {
 			"import io.sarl.core.Logging;",
 			"import io.sarl.lang.annotation.ImportedCapacityFeature;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -184,6 +187,7 @@ public class Bug847Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = AgentSpawned.class, guards = \"$guardEvaluator$AgentSpawned\")",
 			"@SuppressWarnings(\"all\")",
 			"public class SomeAgent extends Agent {",
 			"  private void $behaviorUnit$AgentSpawned$0(final AgentSpawned occurrence) {",
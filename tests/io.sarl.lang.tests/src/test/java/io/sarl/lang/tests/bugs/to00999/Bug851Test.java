@@ -73,6 +73,7 @@ public class Bug851Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug851;",
 			"",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -89,6 +90,7 @@ public class Bug851Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = CarArrivedPercept.class, guards = \"$guardEvaluator$CarArrivedPercept\")",
 			"@SuppressWarnings(\"all\")",
 			"public class SomeAgent extends Agent {",
 			"  private Map<UUID, Body> cars;",
@@ -164,6 +166,7 @@ public class Bug851Test extends AbstractSarlTest {
 			"package io.sarl.lang.tests.bug851;",
 			"",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -180,6 +183,7 @@ public class Bug851Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING+ "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = CarArrivedPercept.class, guards = \"$guardEvaluator$CarArrivedPercept\")",
 			"@SuppressWarnings(\"all\")",
 			"public class SomeAgent extends Agent {",
 			"  private Map<UUID, Body> cars;",
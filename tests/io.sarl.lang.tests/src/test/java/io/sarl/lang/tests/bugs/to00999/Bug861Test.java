@@ -70,6 +70,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"import io.sarl.core.Logging;",
 		"import io.sarl.lang.annotation.ImportedCapacityFeature;",
 		"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+		"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 		"import io.sarl.lang.annotation.SarlElementType;",
 		"import io.sarl.lang.annotation.SarlSpecification;",
 		"import io.sarl.lang.annotation.SyntheticMember;",
@@ -86,6 +87,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"import org.eclipse.xtext.xbase.lib.Pure;", "",
 		"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 		"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+		"@PerceptGuardEvaluatorIndex(events = { Initialize.class, CommitSuicide.class, Initialized.class }, guards = { \"$guardEvaluator$Initialize\", \"$guardEvaluator$CommitSuicide\", \"$guardEvaluator$Initialized\" })",
 		"@SuppressWarnings(\"all\")",
 		"public class BootAgent extends Agent {",
 		"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
@@ -205,6 +207,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"import io.sarl.core.Logging;",
 		"import io.sarl.lang.annotation.ImportedCapacityFeature;",
 		"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+		"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 		"import io.sarl.lang.annotation.SarlElementType;",
 		"import io.sarl.lang.annotation.SarlSpecification;",
 		"import io.sarl.lang.annotation.SyntheticMember;",
@@ -225,6 +228,7 @@ public class Bug861Test extends AbstractSarlTest {
 		"import org.eclipse.xtext.xbase.lib.Pure;", "",
 		"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 		"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+		"@PerceptGuardEvaluatorIndex(events = { Initialize.class, CommitSuicide.class }, guards = { \"$guardEvaluator$Initialize\", \"$guardEvaluator$CommitSuicide\" })",
 		"@SuppressWarnings(\"all\")",
 		"public class EmptyAgent extends Agent {",
 		"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
@@ -67,6 +67,7 @@ public class Bug864Test extends AbstractSarlTest {
 			"import io.sarl.core.Lifecycle;",
 			"import io.sarl.lang.annotation.ImportedCapacityFeature;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -82,6 +83,7 @@ public class Bug864Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = Initialize.class, guards = \"$guardEvaluator$Initialize\")",
 			"@SuppressWarnings(\"all\")",
 			"public class Boot extends Agent {",
 			"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
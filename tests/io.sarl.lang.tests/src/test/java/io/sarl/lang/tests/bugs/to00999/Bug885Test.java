@@ -1979,6 +1979,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"import io.sarl.core.DefaultContextInteractions;",
 			"import io.sarl.lang.annotation.ImportedCapacityFeature;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -1999,6 +2000,7 @@ public class Bug885Test extends AbstractSarlTest {
 			"",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = MyEvent.class, guards = \"$guardEvaluator$MyEvent\")",
 			"@SuppressWarnings(\"all\")",
 			"public class MyAgent extends Agent {",
 			"  private void $behaviorUnit$MyEvent$0(final MyEvent occurrence) {",
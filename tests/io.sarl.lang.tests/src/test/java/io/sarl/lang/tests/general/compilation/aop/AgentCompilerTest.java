@@ -111,6 +111,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				);
 		final String expectedA1 = multilineString(
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -123,6 +124,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = E1.class, guards = \"$guardEvaluator$E1\")",
 				"@SuppressWarnings(\"all\")",
 				"public class A1 extends Agent {",
 				"  private void $behaviorUnit$E1$0(final E1 occurrence) {",
@@ -317,6 +319,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				);
 		final String expectedA1 = multilineString(
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -330,6 +333,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = E1.class, guards = \"$guardEvaluator$E1\")",
 				"@SuppressWarnings(\"all\")",
 				"public class A1 extends Agent {",
 				"  private void $behaviorUnit$E1$0(final E1 occurrence) {",
@@ -2422,6 +2426,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"}");
 		final String expectedMyAgent = multilineString(
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2436,6 +2441,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = Initialize.class, guards = \"$guardEvaluator$Initialize\")",
 				"@SuppressWarnings(\"all\")",
 				"public class MyAgent extends Agent {",
 				"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
@@ -2515,6 +2521,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import foo.test.Destroy;",
 				"import foo.test.Initialize;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2527,6 +2534,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = { Destroy.class, Initialize.class }, guards = { \"$guardEvaluator$Destroy\", \"$guardEvaluator$Initialize\" })",
 				"@SuppressWarnings(\"all\")",
 				"public class MyAgent extends Agent {",
 				"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
@@ -2596,6 +2604,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import foo.test.Destroy;",
 				"import foo.test.Initialize;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2609,6 +2618,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = { Destroy.class, Initialize.class }, guards = { \"$guardEvaluator$Destroy\", \"$guardEvaluator$Initialize\" })",
 				"@SuppressWarnings(\"all\")",
 				"public class MyAgent extends Agent {",
 				"  private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
@@ -2685,6 +2695,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import foo.test.Destroy;",
 				"import foo.test.Initialize;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2699,6 +2710,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = { Destroy.class, Initialize.class }, guards = { \"$guardEvaluator$Destroy\", \"$guardEvaluator$Initialize\" })",
 				"@SuppressWarnings(\"all\")",
 				"public class MyAgent extends Agent {",
 				"  private int xxx;",
@@ -2823,6 +2835,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"import foo.test.Destroy;",
 				"import foo.test.Initialize;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -2837,6 +2850,7 @@ public class AgentCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = { Destroy.class, Initialize.class }, guards = { \"$guardEvaluator$Destroy\", \"$guardEvaluator$Initialize\" })",
 				"@SuppressWarnings(\"all\")",
 				"public class MyAgent extends Agent {",
 				"  private int xxx;",
@@ -94,6 +94,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				);
 		final String expectedB1 = multilineString(
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -103,6 +104,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = E1.class, guards = \"$guardEvaluator$E1\")",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  private void $behaviorUnit$E1$0(final E1 occurrence) {",
@@ -268,6 +270,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				);
 		final String expectedB1 = multilineString(
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -278,6 +281,7 @@ public class BehaviorCompilerTest extends AbstractSarlTest {
 				"",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_BEHAVIOR + ")",
+				"@PerceptGuardEvaluatorIndex(events = E1.class, guards = \"$guardEvaluator$E1\")",
 				"@SuppressWarnings(\"all\")",
 				"public class B1 extends Behavior {",
 				"  private void $behaviorUnit$E1$0(final E1 occurrence) {",
@@ -0,0 +1,168 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sarl.lang.tests.general.compilation.aop;
+
+import static io.sarl.tests.api.tools.TestUtils.multilineString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import com.google.inject.Inject;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.resource.FileExtensionProvider;
+import org.eclipse.xtext.util.IAcceptor;
+import org.eclipse.xtext.xbase.lib.Pair;
+import org.eclipse.xtext.xbase.testing.CompilationTestHelper;
+import org.eclipse.xtext.xbase.testing.CompilationTestHelper.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.sarl.lang.compiler.GeneratorConfig2;
+import io.sarl.lang.compiler.GeneratorConfigProvider2;
+import io.sarl.lang.compiler.IGeneratorConfigProvider2;
+import io.sarl.lang.core.Address;
+import io.sarl.lang.core.Event;
+import io.sarl.lang.core.EventCodecRegistry;
+import io.sarl.lang.core.SpaceID;
+import io.sarl.tests.api.AbstractSarlTest;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 0.11
+ */
+@SuppressWarnings("all")
+@DisplayName("Compilation: Event codec")
+public class EventCodecCompilerTest extends AbstractSarlTest {
+
+	private static final String SOURCE = multilineString(
+			"event E1 {",
+			"  val name : String",
+			"  var value : int",
+			"  val constant = 5",
+			"  new (name : String, value : int) {",
+			"    this.name = name",
+			"    this.value = value",
+			"  }",
+			"}",
+			"event E2 extends E1 {",
+			"  var ratio : double",
+			"  var id : java.util.UUID",
+			"  var data : Object",
+			"  new (name : String, value : int, ratio : double) {",
+			"    super(name, value)",
+			"    this.ratio = ratio",
+			"  }",
+			"}",
+			"");
+
+	@Inject
+	private FileExtensionProvider extensionProvider;
+
+	@Inject
+	private IGeneratorConfigProvider2 generatorConfigProvider2;
+
+	private void compile(CharSequence source, boolean generateCodecs, IAcceptor<Result> acceptor) throws IOException {
+		String fileName = "MyFile." + extensionProvider.getPrimaryFileExtension();
+		CompilationTestHelper compiler = getCompileHelper();
+		ResourceSet set = compiler.resourceSet(new Pair<String, CharSequence>(fileName, source));
+		GeneratorConfig2 config = this.generatorConfigProvider2.get(null);
+		((GeneratorConfigProvider2) this.generatorConfigProvider2).install(set, config);
+		config.setGenerateEventCodecs(generateCodecs);
+		compiler.compile(set, acceptor);
+	}
+
+	@Test
+	public void noCodecByDefault() throws Exception {
+		compile(SOURCE, false, (r) -> {
+			final String code = r.getGeneratedCode("E1");
+			assertFalse(code.contains("EventInput"));
+			assertFalse(code.contains("writeFields"));
+		});
+	}
+
+	@Test
+	public void generatedCode() throws Exception {
+		compile(SOURCE, true, (r) -> {
+			final String code1 = r.getGeneratedCode("E1");
+			assertTrue(code1.contains("protected E1(final EventInput input) {"), code1);
+			assertTrue(code1.contains("this.name = input.readString();"), code1);
+			assertTrue(code1.contains("this.value = input.readInt();"), code1);
+			assertFalse(code1.contains("this.constant = "), code1);
+			assertTrue(code1.contains("protected void writeFields(final EventOutput output) {"), code1);
+			assertTrue(code1.contains("super.writeFields(output);"), code1);
+			assertTrue(code1.contains("output.writeString(this.name);"), code1);
+			final String code2 = r.getGeneratedCode("E2");
+			assertTrue(code2.contains("protected E2(final EventInput input) {"), code2);
+			assertTrue(code2.contains("this.id = input.readUUID();"), code2);
+			assertTrue(code2.contains("this.data = input.readObject();"), code2);
+			assertTrue(code2.contains("output.writeDouble(this.ratio);"), code2);
+		});
+	}
+
+	@Test
+	public void encodeDecode() throws Exception {
+		compile(SOURCE, true, (r) -> {
+			try {
+				final Class<?> type = r.getCompiledClass("E2");
+				final EventCodecRegistry registry = new EventCodecRegistry(type.getClassLoader());
+				assertNotNull(registry.getCodec(type.asSubclass(Event.class)));
+				final Event event = (Event) type.getConstructor(String.class, int.class, double.class)
+						.newInstance("abc", 34, 12.5);
+				final UUID id = UUID.randomUUID();
+				type.getField("id").set(event, id);
+				type.getField("data").set(event, "xyz");
+				final Address source = new Address(new SpaceID(UUID.randomUUID(), UUID.randomUUID(), null), UUID.randomUUID());
+				event.setSource(source);
+				final Event decoded = registry.decode(registry.encode(event));
+				assertEquals(type, decoded.getClass());
+				assertEquals(source, decoded.getSource());
+				assertEquals("abc", type.getField("name").get(decoded));
+				assertEquals(34, type.getField("value").get(decoded));
+				assertEquals(5, type.getField("constant").get(decoded));
+				assertEquals(12.5, type.getField("ratio").get(decoded));
+				assertEquals(id, type.getField("id").get(decoded));
+				assertEquals("xyz", type.getField("data").get(decoded));
+				assertEquals(event, decoded);
+			} catch (Exception exception) {
+				throw new RuntimeException(exception);
+			}
+		});
+	}
+
+	@Test
+	public void noGeneratedCodec() throws Exception {
+		compile(SOURCE, false, (r) -> {
+			final Class<?> type = r.getCompiledClass("E2");
+			final EventCodecRegistry registry = new EventCodecRegistry(type.getClassLoader());
+			assertNull(registry.getCodec(type.asSubclass(Event.class)));
+		});
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * $Id$
+ *
+ * SARL is an general-purpose agent programming language.
+ * More details on http://www.sarl.io
+ *
+ * Copyright (C) 2014-2020 the original authors or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.sarl.lang.tests.general.parsing.aop;
+
+import static io.sarl.tests.api.tools.TestEObjects.file;
+import static io.sarl.tests.api.tools.TestUtils.multilineString;
+import static io.sarl.tests.api.tools.TestValidator.validate;
+
+import org.eclipse.xtext.xbase.XbasePackage;
+import org.eclipse.xtext.xbase.annotations.xAnnotations.XAnnotationsPackage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.sarl.lang.sarl.SarlScript;
+import io.sarl.lang.validation.IssueCodes;
+import io.sarl.tests.api.AbstractSarlTest;
+
+/**
+ * @author $Author: sgalland$
+ * @version $Name$ $Revision$ $Date$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+@DisplayName("Syntax: @Conflatable")
+public class ConflatableTest extends AbstractSarlTest {
+
+	@Test
+	public void validWithoutKey() throws Exception {
+		SarlScript mas = file(getParseHelper(), multilineString(
+				"import io.sarl.lang.annotation.Conflatable",
+				"@Conflatable",
+				"event E1 {",
+				"  var x : double",
+				"}"
+				));
+		validate(getValidationHelper(), getInjector(), mas).assertNoErrors();
+	}
+
+	@Test
+	public void validWithKeys() throws Exception {
+		SarlScript mas = file(getParseHelper(), multilineString(
+				"import io.sarl.lang.annotation.Conflatable",
+				"@Conflatable(key = #[\"source\", \"id\"])",
+				"event E1 {",
+				"  var id : int",
+				"  var x : double",
+				"}"
+				));
+		validate(getValidationHelper(), getInjector(), mas).assertNoErrors();
+	}
+
+	@Test
+	public void validInheritedKey() throws Exception {
+		SarlScript mas = file(getParseHelper(), multilineString(
+				"import io.sarl.lang.annotation.Conflatable",
+				"event E0 {",
+				"  var id : int",
+				"}",
+				"@Conflatable(key = \"id\")",
+				"event E1 extends E0 {",
+				"  var x : double",
+				"}"
+				));
+		validate(getValidationHelper(), getInjector(), mas).assertNoErrors();
+	}
+
+	@Test
+	public void unknownKey() throws Exception {
+		SarlScript mas = file(getParseHelper(), multilineString(
+				"import io.sarl.lang.annotation.Conflatable",
+				"@Conflatable(key = #[\"id\"])",
+				"event E1 {",
+				"  var x : double",
+				"}"
+				));
+		validate(getValidationHelper(), getInjector(), mas).assertError(
+				XbasePackage.eINSTANCE.getXStringLiteral(),
+				IssueCodes.INVALID_CONFLATABLE_ANNOTATION,
+				"Invalid conflation key. 'id' is not a field of the event 'E1'");
+	}
+
+	@Test
+	public void notAnEvent() throws Exception {
+		SarlScript mas = file(getParseHelper(), multilineString(
+				"import io.sarl.lang.annotation.Conflatable",
+				"@Conflatable",
+				"class C1 {",
+				"}"
+				));
+		validate(getValidationHelper(), getInjector(), mas).assertError(
+				XAnnotationsPackage.eINSTANCE.getXAnnotation(),
+				IssueCodes.INVALID_CONFLATABLE_ANNOTATION,
+				"The annotation @Conflatable is allowed on events only");
+	}
+
+}
@@ -58,6 +58,7 @@ public class Bug465Test extends AbstractMojoTest {
 				"import io.sarl.core.Schedules;",
 				"import io.sarl.lang.annotation.ImportedCapacityFeature;",
 				"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+				"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 				"import io.sarl.lang.annotation.SarlElementType;",
 				"import io.sarl.lang.annotation.SarlSpecification;",
 				"import io.sarl.lang.annotation.SyntheticMember;",
@@ -74,6 +75,7 @@ public class Bug465Test extends AbstractMojoTest {
 				"import org.eclipse.xtext.xbase.lib.Pure;",
 				"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 				"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+				"@PerceptGuardEvaluatorIndex(events = Initialize.class, guards = \"$guardEvaluator$Initialize\")",
 				"@SuppressWarnings(\"all\")",
 				"public class MyAgent extends Agent {",
 				"private void $behaviorUnit$Initialize$0(final Initialize occurrence) {",
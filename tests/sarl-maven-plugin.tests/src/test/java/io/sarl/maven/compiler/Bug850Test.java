@@ -57,6 +57,7 @@ public class Bug850Test extends AbstractMojoTest {
 	private static final String EXPECTED_AGENT1 = multilineString(
 			"package io.sarl.maven.bug850;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -69,6 +70,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"import javax.inject.Inject;",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = CarRequestPercept.class, guards = \"$guardEvaluator$CarRequestPercept\")",
 			"@SuppressWarnings(\"all\")",
 			"public class Agent1 extends Agent {",
 			"protected void reportMessage(final String a, final Object... b) {",
@@ -115,6 +117,7 @@ public class Bug850Test extends AbstractMojoTest {
 	private static final String EXPECTED_AGENT2 = multilineString(
 			"package io.sarl.maven.bug850;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -128,6 +131,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"import javax.inject.Inject;",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = CarRequestPercept.class, guards = \"$guardEvaluator$CarRequestPercept\")",
 			"@SuppressWarnings(\"all\")",
 			"public class Agent2 extends Agent {",
 			"protected void reportMessage(final String a, final Object... b) {",
@@ -176,6 +180,7 @@ public class Bug850Test extends AbstractMojoTest {
 	private static final String EXPECTED_AGENT3 = multilineString(
 			"package io.sarl.maven.bug850;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -188,6 +193,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"import javax.inject.Inject;",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = CarRequestPercept.class, guards = \"$guardEvaluator$CarRequestPercept\")",
 			"@SuppressWarnings(\"all\")",
 			"public class Agent3 extends Agent {",
 			"protected void prologAssert(final String a, final int b, final String c) {",
@@ -234,6 +240,7 @@ public class Bug850Test extends AbstractMojoTest {
 	private static final String EXPECTED_AGENT4 = multilineString(
 			"package io.sarl.maven.bug850;",
 			"import io.sarl.lang.annotation.PerceptGuardEvaluator;",
+			"import io.sarl.lang.annotation.PerceptGuardEvaluatorIndex;",
 			"import io.sarl.lang.annotation.SarlElementType;",
 			"import io.sarl.lang.annotation.SarlSpecification;",
 			"import io.sarl.lang.annotation.SyntheticMember;",
@@ -246,6 +253,7 @@ public class Bug850Test extends AbstractMojoTest {
 			"import javax.inject.Inject;",
 			"@SarlSpecification(\"" + SARLVersion.SPECIFICATION_RELEASE_VERSION_STRING + "\")",
 			"@SarlElementType(" + SarlPackage.SARL_AGENT + ")",
+			"@PerceptGuardEvaluatorIndex(events = CarRequestPercept.class, guards = \"$guardEvaluator$CarRequestPercept\")",
 			"@SuppressWarnings(\"all\")",
 			"public class Agent4 extends Agent {",
 			"protected void prologAssert(final String a, final int b, final String c) {",